@@ -0,0 +1,72 @@
+package br.com.apigestao.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/*
+    Compara dois resultados do JMH (-rf json) e encerra com código 1 quando algum benchmark
+    piora além do limite. Em modo avgt/sample/ss um score maior é pior; em thrpt, um menor.
+
+    Uso: java -cp target/benchmarks.jar br.com.apigestao.benchmarks.BaselineComparator \
+             baseline/results.json target/results.json [limite-percentual]
+*/
+public final class BaselineComparator {
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+
+    private BaselineComparator() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Uso: BaselineComparator <baseline.json> <atual.json> [limite-percentual]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+
+        Map<String, Result> baseline = read(Path.of(args[0]));
+        Map<String, Result> current = read(Path.of(args[1]));
+
+        int regressions = 0;
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("NOVO       %s %.3f %s%n", entry.getKey(), entry.getValue().score(), entry.getValue().unit());
+                continue;
+            }
+            Result after = entry.getValue();
+            double change = (after.score() - before.score()) / before.score() * 100.0;
+            double worsening = "thrpt".equals(after.mode()) ? -change : change;
+            boolean regressed = worsening > threshold;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-10s %s %.3f -> %.3f %s (%+.1f%%)%n",
+                    regressed ? "REGRESSÃO" : "OK", entry.getKey(), before.score(), after.score(), after.unit(), change);
+        }
+
+        if (regressions > 0) {
+            System.err.printf("%d benchmark(s) acima do limite de %.1f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Result> read(Path file) throws IOException {
+        JsonNode root = new ObjectMapper().readTree(file.toFile());
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode node : root) {
+            String mode = node.path("mode").asText();
+            Map<String, String> params = new TreeMap<>();
+            node.path("params").properties().forEach(p -> params.put(p.getKey(), p.getValue().asText()));
+            String key = node.path("benchmark").asText() + (params.isEmpty() ? "" : params) + " [" + mode + "]";
+            JsonNode metric = node.path("primaryMetric");
+            results.put(key, new Result(mode, metric.path("score").asDouble(), metric.path("scoreUnit").asText()));
+        }
+        return results;
+    }
+
+    private record Result(String mode, double score, String unit) {}
+}
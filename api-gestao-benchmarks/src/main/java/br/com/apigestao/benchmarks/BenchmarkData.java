@@ -0,0 +1,87 @@
+package br.com.apigestao.benchmarks;
+
+import br.com.apigestao.domain.account.Account;
+import br.com.apigestao.domain.account.AccountDTO;
+import br.com.apigestao.domain.account.Situation;
+import br.com.apigestao.domain.customer.Customer;
+import br.com.apigestao.domain.customer.CustomerDTO;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+final class BenchmarkData {
+    static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 10, 30, 15);
+    static final String VALID_CPF = "21225491061";
+
+    private BenchmarkData() {}
+
+    static Customer customer(long id) {
+        Customer customer = new Customer();
+        customer.setId(id);
+        customer.setName("João Silva");
+        customer.setCpf(VALID_CPF);
+        customer.setEmail("joao" + id + "@email.com");
+        customer.setPhone("11999998888");
+        customer.setEnabled(true);
+        customer.setCreatedDate(NOW);
+        customer.setLastModifiedDate(NOW);
+        return customer;
+    }
+
+    static Account account(long id, Customer customer) {
+        Account account = new Account();
+        account.setId(id);
+        account.setReference("06-2025");
+        account.setValue(BigDecimal.valueOf(250.75));
+        account.setSituation(Situation.PENDENTE);
+        account.setCustomer(customer);
+        account.setCreatedDate(NOW);
+        account.setLastModifiedDate(NOW);
+        return account;
+    }
+
+    static AccountDTO accountDto(long id) {
+        return new AccountDTO(id, "06-2025", BigDecimal.valueOf(250.75), 1L, "PENDENTE", NOW, NOW);
+    }
+
+    static AccountDTO newAccountDto() {
+        return new AccountDTO(null, "06-2025", BigDecimal.valueOf(250.75), null, "PENDENTE", null, null);
+    }
+
+    static AccountDTO accountUpdateDto() {
+        return new AccountDTO(null, "07-2025", BigDecimal.valueOf(300), null, "PAGA", null, null);
+    }
+
+    static CustomerDTO customerDto(long id) {
+        return new CustomerDTO(id, "João Silva", VALID_CPF, "11999998888", "joao" + id + "@email.com", true, NOW, NOW);
+    }
+
+    static CustomerDTO newCustomerDto() {
+        return new CustomerDTO(null, "João Silva", VALID_CPF, "11999998888", "joao@email.com", null, null, null);
+    }
+
+    static CustomerDTO invalidCustomerDto() {
+        return new CustomerDTO(null, "João 2", "12345678900", "1199", "invalido", null, null, null);
+    }
+
+    static CustomerDTO customerUpdateDto() {
+        return new CustomerDTO(null, null, null, "11911112222", "novo@email.com", null, null, null);
+    }
+
+    static List<AccountDTO> accountDtos(int size) {
+        List<AccountDTO> accounts = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            accounts.add(accountDto(i));
+        }
+        return accounts;
+    }
+
+    static List<CustomerDTO> customerDtos(int size) {
+        List<CustomerDTO> customers = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            customers.add(customerDto(i));
+        }
+        return customers;
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.apigestao.benchmarks;
+
+import br.com.apigestao.domain.account.Account;
+import br.com.apigestao.domain.account.AccountDTO;
+import br.com.apigestao.domain.account.AccountMapper;
+import br.com.apigestao.domain.account.AccountMapperImpl;
+import br.com.apigestao.domain.customer.Customer;
+import br.com.apigestao.domain.customer.CustomerDTO;
+import br.com.apigestao.domain.customer.CustomerMapper;
+import br.com.apigestao.domain.customer.CustomerMapperImpl;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+    private final AccountMapper accountMapper = new AccountMapperImpl();
+    private final CustomerMapper customerMapper = new CustomerMapperImpl();
+
+    private Account account;
+    private AccountDTO accountDTO;
+    private AccountDTO accountUpdate;
+    private Customer customer;
+    private CustomerDTO customerDTO;
+    private CustomerDTO customerUpdate;
+
+    @Setup
+    public void setUp() {
+        customer = BenchmarkData.customer(1L);
+        account = BenchmarkData.account(1L, customer);
+        accountDTO = BenchmarkData.accountDto(1L);
+        accountUpdate = BenchmarkData.accountUpdateDto();
+        customerDTO = BenchmarkData.customerDto(1L);
+        customerUpdate = BenchmarkData.customerUpdateDto();
+    }
+
+    @Benchmark
+    public AccountDTO accountToDto() {
+        return accountMapper.toDto(account);
+    }
+
+    @Benchmark
+    public Account accountToEntity() {
+        return accountMapper.toEntity(accountDTO);
+    }
+
+    @Benchmark
+    public Account accountMergeNonNull() {
+        Account target = BenchmarkData.account(1L, customer);
+        accountMapper.mergeNonNull(accountUpdate, target);
+        return target;
+    }
+
+    @Benchmark
+    public CustomerDTO customerToDto() {
+        return customerMapper.toDto(customer);
+    }
+
+    @Benchmark
+    public Customer customerToEntity() {
+        return customerMapper.toEntity(customerDTO);
+    }
+
+    @Benchmark
+    public Customer customerMergeNonNull() {
+        Customer target = BenchmarkData.customer(1L);
+        customerMapper.mergeNonNull(customerUpdate, target);
+        return target;
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.apigestao.benchmarks;
+
+import br.com.apigestao.core.ApplicationResponse;
+import br.com.apigestao.domain.account.AccountDTO;
+import br.com.apigestao.domain.customer.CustomerDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import java.util.concurrent.TimeUnit;
+
+/*
+    O WebConfig serializa Page via PagedModel (PageSerializationMode.VIA_DTO), então a resposta
+    é reproduzida aqui como ApplicationResponse<PagedModel<...>>, com a mesma configuração de
+    datas do ObjectMapper do Spring Boot.
+*/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"20", "200"})
+    private int pageSize;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private ApplicationResponse<PagedModel<AccountDTO>> accountPage;
+    private ApplicationResponse<PagedModel<CustomerDTO>> customerPage;
+
+    @Setup
+    public void setUp() {
+        PageRequest pageable = PageRequest.of(0, pageSize);
+        accountPage = ApplicationResponse.ofSuccess(
+                new PagedModel<>(new PageImpl<>(BenchmarkData.accountDtos(pageSize), pageable, pageSize * 10L)));
+        customerPage = ApplicationResponse.ofSuccess(
+                new PagedModel<>(new PageImpl<>(BenchmarkData.customerDtos(pageSize), pageable, pageSize * 10L)));
+    }
+
+    @Benchmark
+    public byte[] accountPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(accountPage);
+    }
+
+    @Benchmark
+    public byte[] customerPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(customerPage);
+    }
+}
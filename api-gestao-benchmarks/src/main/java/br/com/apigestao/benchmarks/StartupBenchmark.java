@@ -0,0 +1,127 @@
+package br.com.apigestao.benchmarks;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+/*
+    Mede o tempo até a primeira requisição bem-sucedida (HTTP 200) da api-gestao empacotada com
+    ./mvnw package -Pfast-startup, nas combinações com e sem AOT e CDS. Cada execução sobe um processo
+    novo, consulta a URL a cada 10 ms a partir do início do processo e o encerra após a primeira resposta.
+    Precisa do banco configurado para o perfil prod.
+
+    Uso: java -cp target/benchmarks.jar br.com.apigestao.benchmarks.StartupBenchmark \
+             ../api-gestao/target/fast-startup [execuções] [caminho]
+*/
+public final class StartupBenchmark {
+    private static final int DEFAULT_RUNS = 5;
+    private static final String DEFAULT_PATH = "/api/v1/clientes?size=1";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+
+    private StartupBenchmark() {}
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Uso: StartupBenchmark <diretório fast-startup> [execuções] [caminho]");
+            System.exit(2);
+        }
+        Path directory = Path.of(args[0]).toAbsolutePath();
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RUNS;
+        String path = args.length > 2 ? args[2] : DEFAULT_PATH;
+        Path jar = findJar(directory);
+        boolean hasArchive = Files.exists(directory.resolve("application.jsa"));
+
+        List<Mode> modes = new ArrayList<>();
+        modes.add(new Mode("jar", List.of()));
+        modes.add(new Mode("aot", List.of("-Dspring.aot.enabled=true")));
+        if (hasArchive) {
+            modes.add(new Mode("cds", List.of("-XX:SharedArchiveFile=application.jsa")));
+            modes.add(new Mode("aot+cds", List.of("-XX:SharedArchiveFile=application.jsa",
+                    "-Dspring.aot.enabled=true")));
+        } else {
+            System.err.println("application.jsa não encontrado; modos com CDS ignorados");
+        }
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+        System.out.printf("%-10s %10s %10s %10s%n", "modo", "mediana", "mínimo", "máximo");
+        for (Mode mode : modes) {
+            List<Long> millis = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                millis.add(timeToFirstRequest(client, directory, jar, mode, path));
+            }
+            Collections.sort(millis);
+            System.out.printf("%-10s %8d ms %7d ms %7d ms%n",
+                    mode.name(), millis.get(millis.size() / 2), millis.get(0), millis.get(millis.size() - 1));
+        }
+    }
+
+    private static long timeToFirstRequest(HttpClient client, Path directory, Path jar, Mode mode, String path)
+            throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(mode.jvmArguments());
+        command.add("-Dspring.profiles.active=prod");
+        command.add("-Dserver.port=" + port);
+        command.add("-jar");
+        command.add(jar.getFileName().toString());
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(directory.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            long deadline = start + STARTUP_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Processo encerrado na subida (" + mode.name() + "), código "
+                            + process.exitValue());
+                }
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return Duration.ofNanos(System.nanoTime() - start).toMillis();
+                    }
+                } catch (IOException e) {
+                    /* Porta ainda fechada */
+                }
+                Thread.sleep(POLL_INTERVAL);
+            }
+            throw new IllegalStateException("Sem resposta 200 em " + STARTUP_TIMEOUT + " (" + mode.name() + ")");
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static Path findJar(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith("-exec.jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("Jar -exec não encontrado em " + directory));
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record Mode(String name, List<String> jvmArguments) {}
+}
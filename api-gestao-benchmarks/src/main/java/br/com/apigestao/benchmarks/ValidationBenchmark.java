@@ -0,0 +1,65 @@
+package br.com.apigestao.benchmarks;
+
+import br.com.apigestao.domain.account.AccountDTO;
+import br.com.apigestao.domain.customer.CustomerDTO;
+import br.com.apigestao.infrastructure.validations.CreateValidation;
+import br.com.apigestao.infrastructure.validations.UpdateValidation;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+
+    private AccountDTO newAccount;
+    private AccountDTO accountUpdate;
+    private CustomerDTO newCustomer;
+    private CustomerDTO invalidCustomer;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        newAccount = BenchmarkData.newAccountDto();
+        accountUpdate = BenchmarkData.accountUpdateDto();
+        newCustomer = BenchmarkData.newCustomerDto();
+        invalidCustomer = BenchmarkData.invalidCustomerDto();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<AccountDTO>> accountCreate() {
+        return validator.validate(newAccount, CreateValidation.class);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<AccountDTO>> accountUpdate() {
+        return validator.validate(accountUpdate, UpdateValidation.class);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CustomerDTO>> customerCreate() {
+        return validator.validate(newCustomer, CreateValidation.class);
+    }
+
+    // Inclui a interpolação das mensagens de erro do @CPF, @Pattern e @Email
+    @Benchmark
+    public Set<ConstraintViolation<CustomerDTO>> customerCreateInvalid() {
+        return validator.validate(invalidCustomer, CreateValidation.class);
+    }
+}
@@ -0,0 +1,347 @@
+package br.com.apigestao.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+    Popula um banco local (já migrado pelo Flyway) com clientes de CPF válido e contas distribuídas
+    pelos últimos meses, via COPY FROM STDIN em paralelo. Índices secundários são removidos durante a
+    carga e recriados no final, mesmo se a carga falhar; chaves primárias, únicas e estrangeiras continuam
+    ativas. Antes do DROP o DDL dos índices é gravado em --index-ddl, que só é apagado depois da recriação:
+    se o processo morrer no meio, o arquivo pode ser aplicado com psql -f. A massa é
+    determinística para a mesma semente e o cliente N sempre recebe o id N, o que permite ao LoadTest
+    sortear ids válidos sem consultar o banco. Eventos de outbox não são gerados.
+
+    Uso: java -cp target/loadtest.jar br.com.apigestao.loadtest.DatasetGenerator \
+             --url=jdbc:postgresql://localhost:5432/apigestao --user=postgres --password=postgres \
+             [--customers=2000000] [--accounts-per-customer=10] [--months=24] [--seed=42] \
+             [--threads=4] [--truncate] [--keep-indexes] [--index-ddl=dataset-indexes.sql]
+*/
+public final class DatasetGenerator {
+    private static final int CUSTOMERS_PER_CHUNK = 50_000;
+    private static final int COPY_BUFFER_CHARS = 1 << 20;
+
+    private static final String COPY_CUSTOMERS = "COPY tbl_clientes (id, created_date, last_modified_date, nome, cpf, "
+            + "email, telefone, enabled) FROM STDIN";
+    /* O id das contas vem da sequence (default da coluna), compartilhada entre as conexões da carga */
+    private static final String COPY_ACCOUNTS = "COPY tbl_contas (created_date, last_modified_date, referencia, "
+            + "periodo, valor, situacao, customer_id) FROM STDIN";
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final long customers;
+    private final double accountsPerCustomer;
+    private final int months;
+    private final long seed;
+    private final int threads;
+    private final Path indexDdlFile;
+    private final YearMonth currentMonth = YearMonth.now();
+    private final LocalDateTime now = LocalDateTime.now().withNano(0);
+
+    private DatasetGenerator(Options options) {
+        this.url = options.string("url", "jdbc:postgresql://localhost:5432/apigestao");
+        this.user = options.string("user", "postgres");
+        this.password = options.string("password", "postgres");
+        this.customers = options.longValue("customers", 2_000_000L);
+        this.accountsPerCustomer = options.decimal("accounts-per-customer", 10);
+        this.months = options.integer("months", 24);
+        this.seed = options.longValue("seed", 42L);
+        this.threads = options.integer("threads", Runtime.getRuntime().availableProcessors());
+        this.indexDdlFile = Path.of(options.string("index-ddl", "dataset-indexes.sql"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new Options(args);
+        new DatasetGenerator(options).run(options.flag("truncate"), options.flag("keep-indexes"));
+    }
+
+    private void run(boolean truncate, boolean keepIndexes) throws Exception {
+        long start = System.nanoTime();
+        /* O arquivo de DDL de uma carga interrompida tem os únicos registros dos índices dela */
+        if (!keepIndexes && Files.exists(indexDdlFile)) {
+            throw new IllegalStateException(indexDdlFile + " já existe de uma carga interrompida. Aplique-o com "
+                    + "psql -f e apague-o, ou use --keep-indexes");
+        }
+        Map<String, String> droppedIndexes = new LinkedHashMap<>();
+        try (Connection connection = connect()) {
+            prepareTables(connection, truncate);
+            createPartitions(connection);
+            if (!keepIndexes) {
+                droppedIndexes.putAll(dropSecondaryIndexes(connection));
+            }
+        }
+
+        long customerRows;
+        long accountRows;
+        try {
+            customerRows = load("clientes", this::copyCustomers);
+            accountRows = load("contas", this::copyAccounts);
+        } catch (Exception e) {
+            try {
+                recreateIndexes(droppedIndexes);
+            } catch (Exception recreateError) {
+                e.addSuppressed(recreateError);
+            }
+            throw e;
+        }
+        recreateIndexes(droppedIndexes);
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("SELECT setval(pg_get_serial_sequence('tbl_clientes', 'id'), "
+                    + "(SELECT coalesce(max(id), 1) FROM tbl_clientes))");
+            statement.execute("ANALYZE tbl_clientes");
+            statement.execute("ANALYZE tbl_contas");
+        }
+        System.out.printf("Carga concluída: %,d clientes e %,d contas em %s%n", customerRows, accountRows, elapsed(start));
+    }
+
+    private void prepareTables(Connection connection, boolean truncate) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (truncate) {
+                statement.execute("TRUNCATE tbl_contas, tbl_clientes, tbl_outbox, tbl_idempotencia RESTART IDENTITY CASCADE");
+                statement.execute("UPDATE tbl_outbox_relay SET ultimo_id = 0, last_modified_date = now()");
+                return;
+            }
+            try (ResultSet resultSet = statement.executeQuery("SELECT EXISTS (SELECT 1 FROM tbl_clientes)")) {
+                resultSet.next();
+                if (resultSet.getBoolean(1)) {
+                    throw new IllegalStateException("tbl_clientes já possui dados. Use --truncate para apagar a massa atual");
+                }
+            }
+        }
+    }
+
+    private void createPartitions(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT create_tbl_contas_partition(?)")) {
+            for (int age = 0; age < months; age++) {
+                statement.setObject(1, currentMonth.minusMonths(age).atDay(1));
+                statement.execute();
+            }
+        }
+    }
+
+    /* Índices que não sustentam constraints; DROP no índice da tabela particionada remove os das partições */
+    private Map<String, String> dropSecondaryIndexes(Connection connection) throws SQLException, IOException {
+        Map<String, String> indexes = new LinkedHashMap<>();
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet resultSet = statement.executeQuery("""
+                    SELECT i.indexrelid::regclass::text, pg_get_indexdef(i.indexrelid)
+                    FROM pg_index i
+                    WHERE i.indrelid IN ('tbl_clientes'::regclass, 'tbl_contas'::regclass)
+                      AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conindid = i.indexrelid)
+                    """)) {
+                while (resultSet.next()) {
+                    indexes.put(resultSet.getString(1), resultSet.getString(2).replace(" ON ONLY ", " ON ")
+                            .replaceFirst("^CREATE (UNIQUE )?INDEX ", "CREATE $1INDEX IF NOT EXISTS "));
+                }
+            }
+            if (indexes.isEmpty()) {
+                return indexes;
+            }
+            Files.write(indexDdlFile, indexes.values().stream().map(ddl -> ddl + ";").toList());
+            System.out.printf("DDL dos índices removidos gravado em %s:%n", indexDdlFile.toAbsolutePath());
+            indexes.values().forEach(ddl -> System.out.println("  " + ddl + ";"));
+
+            /* Todos os DROPs na mesma transação: uma falha no meio não deixa parte dos índices removida */
+            connection.setAutoCommit(false);
+            for (String index : indexes.keySet()) {
+                statement.execute("DROP INDEX " + index);
+            }
+            connection.commit();
+        }
+        return indexes;
+    }
+
+    /* IF NOT EXISTS no DDL: os índices já recriados são ignorados se a recriação for repetida */
+    private void recreateIndexes(Map<String, String> indexes) throws SQLException, IOException {
+        if (indexes.isEmpty()) {
+            return;
+        }
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("SET maintenance_work_mem = '1GB'");
+            for (Map.Entry<String, String> index : indexes.entrySet()) {
+                long indexStart = System.nanoTime();
+                statement.execute(index.getValue());
+                System.out.printf("Índice %s recriado em %s%n", index.getKey(), elapsed(indexStart));
+            }
+        } catch (SQLException e) {
+            System.err.printf("Falha ao recriar os índices. Aplique %s com psql -f%n", indexDdlFile.toAbsolutePath());
+            throw e;
+        }
+        Files.delete(indexDdlFile);
+    }
+
+    private long load(String table, ChunkLoader loader) throws Exception {
+        long start = System.nanoTime();
+        long chunks = (customers + CUSTOMERS_PER_CHUNK - 1) / CUSTOMERS_PER_CHUNK;
+        AtomicLong rows = new AtomicLong();
+        AtomicLong done = new AtomicLong();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (long chunk = 0; chunk < chunks; chunk++) {
+                long firstId = chunk * CUSTOMERS_PER_CHUNK + 1;
+                long lastId = Math.min(customers, firstId + CUSTOMERS_PER_CHUNK - 1);
+                futures.add(executor.submit(() -> {
+                    try (Connection connection = connect()) {
+                        rows.addAndGet(loader.load(connection, firstId, lastId));
+                    }
+                    long finished = done.incrementAndGet();
+                    if (finished % 10 == 0 || finished == chunks) {
+                        System.out.printf("%s: %d/%d blocos, %,d linhas, %s%n", table, finished, chunks, rows.get(), elapsed(start));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return rows.get();
+    }
+
+    private long copyCustomers(Connection connection, long firstId, long lastId) throws SQLException {
+        long rows = 0;
+        CopyWriter writer = new CopyWriter(connection, COPY_CUSTOMERS);
+        try {
+            for (long id = firstId; id <= lastId; id++) {
+                String cpf = SyntheticData.cpf(id);
+                if (cpf == null) {
+                    continue;
+                }
+                SplittableRandom random = random(id, 0);
+                String name = SyntheticData.name(random);
+                LocalDateTime createdDate = now.minusMinutes(random.nextLong(Duration.ofDays(30L * months).toMinutes()));
+                writer.row(id, createdDate, createdDate, name, cpf, SyntheticData.email(id, name),
+                        SyntheticData.phone(id), random.nextDouble() < 0.97);
+                rows++;
+            }
+            writer.finish();
+        } finally {
+            writer.cancelIfActive();
+        }
+        return rows;
+    }
+
+    private long copyAccounts(Connection connection, long firstId, long lastId) throws SQLException {
+        long rows = 0;
+        CopyWriter writer = new CopyWriter(connection, COPY_ACCOUNTS);
+        try {
+            for (long customerId = firstId; customerId <= lastId; customerId++) {
+                if (SyntheticData.cpf(customerId) == null) {
+                    continue;
+                }
+                SplittableRandom random = random(customerId, 1);
+                int accounts = SyntheticData.accountsPerCustomer(random, accountsPerCustomer);
+                for (int i = 0; i < accounts; i++) {
+                    int monthsAgo = SyntheticData.monthsAgo(random, months);
+                    YearMonth month = currentMonth.minusMonths(monthsAgo);
+                    String situation = SyntheticData.situation(random, monthsAgo);
+                    LocalDateTime createdDate = month.atDay(1).atStartOfDay().plusMinutes(random.nextInt(60 * 24 * 28));
+                    if (createdDate.isAfter(now)) {
+                        createdDate = now.minusMinutes(random.nextInt(60 * 24));
+                    }
+                    LocalDateTime lastModifiedDate = situation.equals("PENDENTE") ? createdDate
+                            : min(now, createdDate.plusDays(1 + random.nextInt(30)));
+                    writer.row(createdDate, lastModifiedDate, SyntheticData.reference(month), month.atDay(1),
+                            SyntheticData.value(random), situation, customerId);
+                    rows++;
+                }
+            }
+            writer.finish();
+        } finally {
+            writer.cancelIfActive();
+        }
+        return rows;
+    }
+
+    private SplittableRandom random(long customerId, int stream) {
+        return new SplittableRandom((seed * 31 + stream) ^ (customerId * 0x9E3779B97F4A7C15L));
+    }
+
+    private Connection connect() throws SQLException {
+        Connection connection = DriverManager.getConnection(url, user, password);
+        try (Statement statement = connection.createStatement()) {
+            /* Cada bloco é uma transação; perder os últimos commits numa queda só exige refazer a carga */
+            statement.execute("SET synchronous_commit = off");
+        }
+        return connection;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static String elapsed(long start) {
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+        return String.format("%d:%02d", duration.toMinutes(), duration.toSecondsPart());
+    }
+
+    @FunctionalInterface
+    private interface ChunkLoader {
+        long load(Connection connection, long firstId, long lastId) throws SQLException;
+    }
+
+    /* Monta as linhas no formato texto do COPY e envia ao servidor em blocos de ~1 MB */
+    private static final class CopyWriter {
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(COPY_BUFFER_CHARS + 1024);
+
+        CopyWriter(Connection connection, String sql) throws SQLException {
+            this.copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+        }
+
+        void row(Object... columns) throws SQLException {
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) {
+                    buffer.append('\t');
+                }
+                buffer.append(columns[i] == null ? "\\N" : columns[i].toString());
+            }
+            buffer.append('\n');
+            if (buffer.length() >= COPY_BUFFER_CHARS) {
+                flush();
+            }
+        }
+
+        void finish() throws SQLException {
+            flush();
+            copyIn.endCopy();
+        }
+
+        void cancelIfActive() throws SQLException {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+
+        private void flush() throws SQLException {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.apigestao.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/* Latências (em microssegundos) e status HTTP de um worker; sem sincronização, uma instância por thread */
+final class LatencyRecorder {
+    private long[] latencies = new long[1 << 14];
+    private int size;
+    private final Map<String, Long> statuses = new TreeMap<>();
+
+    void record(long micros, String status) {
+        if (size == latencies.length) {
+            latencies = Arrays.copyOf(latencies, size * 2);
+        }
+        latencies[size++] = micros;
+        statuses.merge(status, 1L, Long::sum);
+    }
+
+    int count() {
+        return size;
+    }
+
+    Map<String, Long> statuses() {
+        return statuses;
+    }
+
+    void merge(LatencyRecorder other) {
+        if (size + other.size > latencies.length) {
+            latencies = Arrays.copyOf(latencies, Math.max(latencies.length * 2, size + other.size));
+        }
+        System.arraycopy(other.latencies, 0, latencies, size, other.size);
+        size += other.size;
+        other.statuses.forEach((status, count) -> statuses.merge(status, count, Long::sum));
+    }
+
+    /* Percentil pelo método nearest-rank; ordena os valores registrados */
+    long percentile(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        Arrays.sort(latencies, 0, size);
+        int rank = (int) Math.ceil(percentile / 100 * size);
+        return latencies[Math.max(0, Math.min(size, rank) - 1)];
+    }
+}
@@ -0,0 +1,201 @@
+package br.com.apigestao.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+    Teste de carga ponta a ponta da api-gestao. Para cada cenário (leitura, misto, escrita), workers em
+    virtual threads executam requisições em malha fechada durante o aquecimento e a medição; só as
+    requisições iniciadas e concluídas dentro da janela de medição entram no resultado. Pausas de GC e
+    memória alocada vêm de /actuator/metrics do servidor (jvm.gc.pause e jvm.gc.memory.allocated),
+    pela diferença entre o início e o fim da medição.
+
+    A API precisa estar apontando para um banco populado pelo DatasetGenerator, com os mesmos
+    --customers. Cenários de escrita alteram a massa; recarregue-a com --truncate para comparar execuções.
+
+    Uso: java -jar target/loadtest.jar [--url=http://localhost:8080] [--scenarios=leitura,misto,escrita] \
+             [--concurrency=32] [--warmup=30] [--duration=60] [--customers=2000000] \
+             [--accounts=20000000] [--seed=42] [--out=resultado.json]
+*/
+public final class LoadTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final URI baseUri;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final long customers;
+    private final long accounts;
+    private final long seed;
+    /* Clientes criados pela carga recebem CPFs além da massa, a partir de um deslocamento por execução */
+    private final AtomicLong newCustomerIds;
+
+    private LoadTest(Options options) {
+        this.baseUri = URI.create(options.string("url", "http://localhost:8080"));
+        this.concurrency = options.integer("concurrency", 32);
+        this.warmup = options.duration("warmup", Duration.ofSeconds(30));
+        this.duration = options.duration("duration", Duration.ofSeconds(60));
+        this.customers = options.longValue("customers", 2_000_000L);
+        this.accounts = options.longValue("accounts", customers * 10);
+        this.seed = options.longValue("seed", 42L);
+        this.newCustomerIds = new AtomicLong(customers + (System.currentTimeMillis() / 1000 % 10_000) * 50_000);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = new Options(args);
+        LoadTest loadTest = new LoadTest(options);
+        List<String> selected = List.of(options.string("scenarios", "leitura,misto,escrita").split(","));
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        System.out.printf("%-8s %10s %9s %9s %12s %10s %12s  %s%n",
+                "cenário", "req/s", "p50 ms", "p99 ms", "GC pausa ms", "GC ms/s", "alocação MB/s", "status");
+        for (Scenario scenario : Scenario.all()) {
+            if (selected.contains(scenario.name())) {
+                results.add(loadTest.run(scenario));
+            }
+        }
+        String out = options.string("out", null);
+        if (out != null) {
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(Path.of(out).toFile(), results);
+        }
+    }
+
+    private Map<String, Object> run(Scenario scenario) throws Exception {
+        long warmupEnd = System.nanoTime() + warmup.toNanos();
+        long measureEnd = warmupEnd + duration.toNanos();
+
+        List<LatencyRecorder> recorders = new ArrayList<>();
+        ServerMetrics before;
+        ServerMetrics after;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                LatencyRecorder recorder = new LatencyRecorder();
+                recorders.add(recorder);
+                Scenario.Context context = new Scenario.Context(baseUri, customers, accounts, newCustomerIds,
+                        new SplittableRandom(seed * 1_000 + i));
+                workers.add(executor.submit(() -> work(scenario, context, recorder, warmupEnd, measureEnd)));
+            }
+            sleepUntil(warmupEnd);
+            before = serverMetrics();
+            sleepUntil(measureEnd);
+            after = serverMetrics();
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+
+        LatencyRecorder total = new LatencyRecorder();
+        recorders.forEach(total::merge);
+        double seconds = duration.toNanos() / 1e9;
+        double throughput = total.count() / seconds;
+        double p50 = total.percentile(50) / 1_000.0;
+        double p99 = total.percentile(99) / 1_000.0;
+        Double gcPauseMillis = before.gcPauseSeconds() == null || after.gcPauseSeconds() == null ? null
+                : (after.gcPauseSeconds() - before.gcPauseSeconds()) * 1_000;
+        Double allocationMegabytesPerSecond = before.allocatedBytes() == null || after.allocatedBytes() == null ? null
+                : (after.allocatedBytes() - before.allocatedBytes()) / seconds / (1024 * 1024);
+
+        System.out.printf("%-8s %10.1f %9.2f %9.2f %12s %10s %12s  %s%n", scenario.name(), throughput, p50, p99,
+                format(gcPauseMillis), format(gcPauseMillis == null ? null : gcPauseMillis / seconds),
+                format(allocationMegabytesPerSecond), total.statuses());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("scenario", scenario.name());
+        result.put("concurrency", concurrency);
+        result.put("durationSeconds", seconds);
+        result.put("requests", total.count());
+        result.put("throughput", throughput);
+        result.put("p50Millis", p50);
+        result.put("p99Millis", p99);
+        result.put("gcPauseMillis", gcPauseMillis);
+        result.put("allocationMegabytesPerSecond", allocationMegabytesPerSecond);
+        result.put("statuses", total.statuses());
+        return result;
+    }
+
+    private Void work(Scenario scenario, Scenario.Context context, LatencyRecorder recorder, long warmupEnd,
+                      long measureEnd) {
+        while (System.nanoTime() < measureEnd) {
+            HttpRequest request = scenario.pick(context.random()).factory().create(context);
+            long start = System.nanoTime();
+            String status;
+            try {
+                status = Integer.toString(client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+            } catch (IOException e) {
+                status = "erro";
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            long end = System.nanoTime();
+            if (start >= warmupEnd && end <= measureEnd) {
+                recorder.record((end - start) / 1_000, status);
+            }
+        }
+        return null;
+    }
+
+    /* Valores acumulados desde a subida do servidor; null quando a métrica não está exposta */
+    private ServerMetrics serverMetrics() {
+        return new ServerMetrics(measurement("jvm.gc.pause", "TOTAL_TIME"),
+                measurement("jvm.gc.memory.allocated", "COUNT"));
+    }
+
+    private Double measurement(String metric, String statistic) {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/actuator/metrics/" + metric))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return null;
+            }
+            for (JsonNode measurement : MAPPER.readTree(response.body()).path("measurements")) {
+                if (statistic.equals(measurement.path("statistic").asText())) {
+                    return measurement.path("value").asDouble();
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            Thread.sleep(Duration.ofNanos(remaining));
+        }
+    }
+
+    private static String format(Double value) {
+        return value == null ? "n/d" : String.format("%.1f", value);
+    }
+
+    private record ServerMetrics(Double gcPauseSeconds, Double allocatedBytes) {}
+}
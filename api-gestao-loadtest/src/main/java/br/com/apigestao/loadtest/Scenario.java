@@ -0,0 +1,167 @@
+package br.com.apigestao.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+    Cenário de carga: lista ponderada de operações sobre /api/v1. Cada worker sorteia a próxima
+    operação pelo peso; os ids sorteados seguem a numeração da massa do DatasetGenerator.
+*/
+record Scenario(String name, List<Operation> operations) {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    static List<Scenario> all() {
+        Operation searchByName = new Operation("busca-nome", 2, context -> context.get(
+                "/api/v1/clientes?size=20&name="
+                        + URLEncoder.encode(SyntheticData.nameSearchTerm(context.random()), StandardCharsets.UTF_8)));
+        Operation listCustomers = new Operation("lista-clientes", 1, context -> context.get(
+                "/api/v1/clientes?size=20&page=" + context.random().nextInt(50)));
+        Operation listAccounts = new Operation("lista-contas", 3, context -> context.get(
+                "/api/v1/clientes/" + context.customerId() + "/contas?size=20"));
+        Operation scrollAccounts = new Operation("scroll-contas", 2, context -> context.get(
+                "/api/v1/clientes/" + context.customerId() + "/contas/scroll?size=50"));
+        Operation summary = new Operation("resumo-contas", 2, context -> context.get(
+                "/api/v1/clientes/" + context.customerId() + "/contas/resumo?groupByReference=true"));
+
+        Operation createAccount = new Operation("cria-conta", 4, context -> context.post(
+                "/api/v1/clientes/" + context.customerId() + "/contas",
+                "{\"reference\":\"%s\",\"value\":%s,\"situation\":\"PENDENTE\"}".formatted(
+                        SyntheticData.reference(YearMonth.now()), SyntheticData.value(context.random())),
+                context.idempotencyKey()));
+        Operation updateAccount = new Operation("atualiza-conta", 3, context -> context.put(
+                "/api/v1/contas/" + context.accountId(),
+                "{\"value\":%s}".formatted(SyntheticData.value(context.random()))));
+        Operation createCustomer = new Operation("cria-cliente", 1, context -> {
+            long id = context.nextNewCustomerId();
+            String name = SyntheticData.name(context.random());
+            return context.post("/api/v1/clientes",
+                    "{\"name\":\"%s\",\"cpf\":\"%s\",\"email\":\"%s\",\"phone\":\"%s\"}".formatted(
+                            name, SyntheticData.cpf(id), SyntheticData.email(id, name), SyntheticData.phone(id)),
+                    null);
+        });
+        Operation payMonth = new Operation("paga-mes", 1, context -> context.patch(
+                "/api/v1/contas/lote/situacao",
+                "{\"customerId\":%d,\"reference\":\"%s\",\"situation\":\"PAGA\"}".formatted(
+                        context.customerId(), SyntheticData.reference(YearMonth.now()))));
+
+        List<Operation> reads = List.of(searchByName, listCustomers, listAccounts, scrollAccounts, summary);
+        List<Operation> writes = List.of(createAccount, updateAccount, createCustomer, payMonth);
+        /* Misto: ~80% leituras e ~20% escritas */
+        List<Operation> mixed = List.of(
+                searchByName.withWeight(8), listCustomers.withWeight(4), listAccounts.withWeight(12),
+                scrollAccounts.withWeight(8), summary.withWeight(8),
+                createAccount.withWeight(4), updateAccount.withWeight(3), createCustomer.withWeight(1),
+                payMonth.withWeight(1));
+        return List.of(new Scenario("leitura", reads), new Scenario("misto", mixed), new Scenario("escrita", writes));
+    }
+
+    Operation pick(SplittableRandom random) {
+        int total = operations.stream().mapToInt(Operation::weight).sum();
+        int roll = random.nextInt(total);
+        for (Operation operation : operations) {
+            roll -= operation.weight();
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Pesos inválidos no cenário " + name);
+    }
+
+    @FunctionalInterface
+    interface RequestFactory {
+        HttpRequest create(Context context);
+    }
+
+    record Operation(String name, int weight, RequestFactory factory) {
+        Operation withWeight(int newWeight) {
+            return new Operation(name, newWeight, factory);
+        }
+    }
+
+    /*
+        Estado de um worker. Ids de clientes e contas existentes seguem uma distribuição 80/20: 80% das
+        requisições vão para os primeiros 20% dos ids. Uma em cada vinte criações de conta reenvia a
+        Idempotency-Key anterior do worker, exercitando o replay.
+    */
+    static final class Context {
+        private final URI baseUri;
+        private final long customers;
+        private final long accounts;
+        private final AtomicLong newCustomerIds;
+        private final SplittableRandom random;
+        private String lastIdempotencyKey;
+
+        Context(URI baseUri, long customers, long accounts, AtomicLong newCustomerIds, SplittableRandom random) {
+            this.baseUri = baseUri;
+            this.customers = customers;
+            this.accounts = accounts;
+            this.newCustomerIds = newCustomerIds;
+            this.random = random;
+        }
+
+        SplittableRandom random() {
+            return random;
+        }
+
+        long customerId() {
+            return skewed(customers);
+        }
+
+        long accountId() {
+            return skewed(accounts);
+        }
+
+        long nextNewCustomerId() {
+            long id = newCustomerIds.incrementAndGet();
+            return SyntheticData.cpf(id) == null ? newCustomerIds.incrementAndGet() : id;
+        }
+
+        String idempotencyKey() {
+            if (lastIdempotencyKey == null || random.nextInt(20) != 0) {
+                lastIdempotencyKey = UUID.randomUUID().toString();
+            }
+            return lastIdempotencyKey;
+        }
+
+        HttpRequest get(String path) {
+            return request(path).GET().build();
+        }
+
+        HttpRequest post(String path, String body, String idempotencyKey) {
+            HttpRequest.Builder builder = json(path).POST(HttpRequest.BodyPublishers.ofString(body));
+            if (idempotencyKey != null) {
+                builder.header("Idempotency-Key", idempotencyKey);
+            }
+            return builder.build();
+        }
+
+        HttpRequest put(String path, String body) {
+            return json(path).PUT(HttpRequest.BodyPublishers.ofString(body)).build();
+        }
+
+        HttpRequest patch(String path, String body) {
+            return json(path).method("PATCH", HttpRequest.BodyPublishers.ofString(body)).build();
+        }
+
+        private long skewed(long max) {
+            long hot = Math.max(1, max / 5);
+            return random.nextInt(10) < 8 ? 1 + random.nextLong(hot) : 1 + random.nextLong(max);
+        }
+
+        private HttpRequest.Builder json(String path) {
+            return request(path).header("Content-Type", "application/json");
+        }
+
+        private HttpRequest.Builder request(String path) {
+            return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(REQUEST_TIMEOUT);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package br.com.apigestao.loadtest;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.Normalizer;
+import java.time.YearMonth;
+import java.util.SplittableRandom;
+
+/*
+    Regras de geração da massa sintética, compartilhadas pelo DatasetGenerator e pelo LoadTest.
+    O CPF de um cliente é função do seu id (permutação dos 9 dígitos-base seguida dos dígitos
+    verificadores), então ids distintos sempre geram CPFs distintos e válidos, sem consulta ao banco.
+*/
+public final class SyntheticData {
+    public static final String[] SITUATIONS = {"PENDENTE", "PAGA", "CANCELADA"};
+
+    private static final long CPF_BASES = 1_000_000_000L;
+    /* 3^18: coprimo com 10^9, então id -> base é uma permutação */
+    private static final long CPF_MULTIPLIER = 387_420_489L;
+    private static final long CPF_OFFSET = 123_456_789L;
+
+    private static final String[] FIRST_NAMES = {
+            "Ana", "João", "Maria", "José", "Antônio", "Francisca", "Carlos", "Paulo", "Lúcia", "Márcia",
+            "Luís", "Sebastião", "Conceição", "Fábio", "Patrícia", "Mônica", "André", "Vitória", "Júlia",
+            "Letícia", "Gustavo", "Cláudia", "Raimundo", "Luana", "Inês", "Rafael", "Beatriz", "Sérgio",
+            "Débora", "Otávio"};
+
+    private static final String[] LAST_NAMES = {
+            "Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves", "Pereira", "Lima",
+            "Gomes", "Ribeiro", "Carvalho", "Araújo", "Conceição", "Magalhães", "Guimarães", "Simões",
+            "Gonçalves", "Brandão", "Assunção", "Falcão", "Romão", "Estevão", "Lopes", "Barbosa"};
+
+    private SyntheticData() {}
+
+    /* CPF válido e único do cliente, ou null para os raros ids cuja base tem todos os dígitos iguais */
+    public static String cpf(long customerId) {
+        long base = Math.floorMod(customerId * CPF_MULTIPLIER + CPF_OFFSET, CPF_BASES);
+        int[] digits = new int[11];
+        for (int i = 8; i >= 0; i--) {
+            digits[i] = (int) (base % 10);
+            base /= 10;
+        }
+        boolean repeated = true;
+        for (int i = 1; i < 9; i++) {
+            repeated &= digits[i] == digits[0];
+        }
+        if (repeated) {
+            return null;
+        }
+        for (int check = 9; check < 11; check++) {
+            int sum = 0;
+            for (int i = 0; i < check; i++) {
+                sum += digits[i] * (check + 1 - i);
+            }
+            int remainder = (sum * 10) % 11;
+            digits[check] = remainder == 10 ? 0 : remainder;
+        }
+        StringBuilder cpf = new StringBuilder(11);
+        for (int digit : digits) {
+            cpf.append(digit);
+        }
+        return cpf.toString();
+    }
+
+    public static String name(SplittableRandom random) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+
+    /* Prefixo de nome para buscas por nome (mínimo de 3 caracteres), sem acento em metade dos casos */
+    public static String nameSearchTerm(SplittableRandom random) {
+        String name = random.nextBoolean()
+                ? FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]
+                : LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        String term = name.substring(0, Math.min(name.length(), 3 + random.nextInt(3)));
+        return random.nextBoolean() ? stripAccents(term).toLowerCase() : term;
+    }
+
+    public static String email(long customerId, String name) {
+        return stripAccents(name).toLowerCase().replace(' ', '.') + "." + customerId + "@exemplo.com.br";
+    }
+
+    public static String phone(long customerId) {
+        return "119" + String.format("%08d", Math.floorMod(customerId * 7_919L, 100_000_000L));
+    }
+
+    /* Quantidade de contas do cliente: distribuição exponencial com média próxima de mean, mínimo 1 */
+    public static int accountsPerCustomer(SplittableRandom random, double mean) {
+        return 1 + (int) (-Math.log(1 - random.nextDouble()) * Math.max(0, mean - 0.5));
+    }
+
+    /* Meses mais recentes concentram mais contas: o peso cai 10% a cada mês para trás */
+    public static int monthsAgo(SplittableRandom random, int months) {
+        double decay = 0.9;
+        double total = (1 - Math.pow(decay, months)) / (1 - decay);
+        double target = random.nextDouble() * total;
+        double weight = 1;
+        for (int age = 0; age < months; age++) {
+            target -= weight;
+            if (target < 0) {
+                return age;
+            }
+            weight *= decay;
+        }
+        return months - 1;
+    }
+
+    public static String reference(YearMonth month) {
+        return String.format("%02d-%04d", month.getMonthValue(), month.getYear());
+    }
+
+    /*
+        Contas do mês corrente ainda estão majoritariamente pendentes; nos meses anteriores quase
+        todas foram pagas, com uma parcela em atraso e poucas canceladas.
+    */
+    public static String situation(SplittableRandom random, int monthsAgo) {
+        double roll = random.nextDouble();
+        double pending = monthsAgo == 0 ? 0.70 : monthsAgo == 1 ? 0.25 : 0.04;
+        double cancelled = 0.03;
+        if (roll < pending) {
+            return SITUATIONS[0];
+        }
+        return roll < pending + cancelled ? SITUATIONS[2] : SITUATIONS[1];
+    }
+
+    /* Valor com distribuição log-normal, mediana em torno de R$ 150 */
+    public static BigDecimal value(SplittableRandom random) {
+        double gaussian = Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+        return BigDecimal.valueOf(Math.exp(Math.log(150) + 0.8 * gaussian)).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    static String stripAccents(String value) {
+        return Normalizer.normalize(value, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+    }
+}
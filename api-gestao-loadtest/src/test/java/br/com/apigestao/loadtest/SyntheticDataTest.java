@@ -0,0 +1,104 @@
+package br.com.apigestao.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyntheticDataTest {
+
+    @Test
+    @DisplayName("Should generate valid and distinct CPFs for consecutive customer ids")
+    void cpf_whenConsecutiveIds_thenValidAndDistinct() {
+        Set<String> cpfs = new HashSet<>();
+        for (long id = 1; id <= 200_000; id++) {
+            String cpf = SyntheticData.cpf(id);
+            if (cpf != null) {
+                assertTrue(isValidCpf(cpf), cpf);
+                assertTrue(cpfs.add(cpf), "CPF repetido: " + cpf);
+            }
+        }
+        assertTrue(cpfs.size() > 199_990);
+    }
+
+    @Test
+    @DisplayName("Should keep generated customer fields within the API validation rules")
+    void customerFields_whenGenerated_thenMatchApiValidation() {
+        SplittableRandom random = new SplittableRandom(1);
+        for (long id = 1; id <= 1_000; id++) {
+            String name = SyntheticData.name(random);
+            assertTrue(name.matches("^[^0-9]*$"), name);
+            assertTrue(SyntheticData.phone(id).matches("^\\d{11}$"));
+            assertTrue(SyntheticData.email(id, name).matches("^[a-z.]+\\.\\d+@exemplo\\.com\\.br$"));
+            assertTrue(SyntheticData.nameSearchTerm(random).length() >= 3);
+        }
+    }
+
+    @Test
+    @DisplayName("Should concentrate pending accounts in the current month and paid ones in older months")
+    void situation_whenByAge_thenFollowExpectedDistribution() {
+        SplittableRandom random = new SplittableRandom(7);
+        int samples = 100_000;
+        int pendingNow = 0;
+        int pendingOld = 0;
+        for (int i = 0; i < samples; i++) {
+            pendingNow += SyntheticData.situation(random, 0).equals("PENDENTE") ? 1 : 0;
+            pendingOld += SyntheticData.situation(random, 6).equals("PENDENTE") ? 1 : 0;
+        }
+        assertEquals(0.70, pendingNow / (double) samples, 0.01);
+        assertEquals(0.04, pendingOld / (double) samples, 0.01);
+    }
+
+    @Test
+    @DisplayName("Should favour recent months and keep values positive around the median")
+    void monthsAgoAndValue_whenSampled_thenSkewedAndPositive() {
+        SplittableRandom random = new SplittableRandom(11);
+        int[] perMonth = new int[24];
+        int belowMedian = 0;
+        int samples = 100_000;
+        for (int i = 0; i < samples; i++) {
+            perMonth[SyntheticData.monthsAgo(random, 24)]++;
+            BigDecimal value = SyntheticData.value(random);
+            assertTrue(value.signum() > 0);
+            belowMedian += value.compareTo(BigDecimal.valueOf(150)) < 0 ? 1 : 0;
+        }
+        assertTrue(perMonth[0] > perMonth[6] && perMonth[6] > perMonth[23]);
+        assertEquals(0.5, belowMedian / (double) samples, 0.01);
+    }
+
+    @Test
+    @DisplayName("Should keep the mean number of accounts per customer close to the requested mean")
+    void accountsPerCustomer_whenSampled_thenMeanCloseToRequested() {
+        SplittableRandom random = new SplittableRandom(3);
+        long total = 0;
+        int samples = 100_000;
+        for (int i = 0; i < samples; i++) {
+            int accounts = SyntheticData.accountsPerCustomer(random, 10);
+            assertTrue(accounts >= 1);
+            total += accounts;
+        }
+        assertEquals(10, total / (double) samples, 0.6);
+    }
+
+    private static boolean isValidCpf(String cpf) {
+        if (!cpf.matches("\\d{11}") || cpf.chars().distinct().count() == 1) {
+            return false;
+        }
+        for (int check = 9; check < 11; check++) {
+            int sum = 0;
+            for (int i = 0; i < check; i++) {
+                sum += (cpf.charAt(i) - '0') * (check + 1 - i);
+            }
+            int digit = 11 - sum % 11;
+            if ((digit >= 10 ? 0 : digit) != cpf.charAt(check) - '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -3,6 +3,7 @@ package br.com.apigestao.core;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Window;
 import java.util.Collection;
 import java.util.List;
 import org.mapstruct.BeanMapping;
@@ -29,6 +30,10 @@ public interface BaseMapper<E, D> {
         return dto.map(this::toEntity);
     }
 
+    default Window<D> toDto(Window<E> entity) {
+        return entity.map(this::toDto);
+    }
+
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void mergeNonNull(D dto, @MappingTarget E entity);
 
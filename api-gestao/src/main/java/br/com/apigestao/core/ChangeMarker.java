@@ -0,0 +1,23 @@
+package br.com.apigestao.core;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/*
+    Marcador de alteração de uma coleção: quantidade de registros e maior lastModifiedDate.
+    Inclusões, exclusões e atualizações mudam um dos dois valores, então ele serve como ETag
+    forte da listagem sem executar a consulta paginada.
+*/
+public record ChangeMarker(Long count, LocalDateTime lastModified) {
+
+    public String eTag() {
+        long micros = lastModified == null ? 0
+                : lastModified.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + lastModified.getNano() / 1_000;
+        return count + "-" + Long.toHexString(micros);
+    }
+
+    public long lastModifiedMillis() {
+        return lastModified == null ? -1 : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
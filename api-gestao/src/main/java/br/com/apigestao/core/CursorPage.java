@@ -0,0 +1,19 @@
+package br.com.apigestao.core;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String next
+) {
+
+    public static <T> CursorPage<T> of(Window<T> window, Sort sort) {
+        return new CursorPage<>(window.getContent(), window.size(), window.hasNext(), KeysetCursor.encode(window, sort));
+    }
+}
@@ -0,0 +1,95 @@
+package br.com.apigestao.core;
+
+import br.com.apigestao.domain.exceptions.InvalidException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+    Cursor opaco para paginação por keyset. O token guarda os valores da última linha
+    retornada para cada chave de ordenação (sempre terminando no id), de forma que a
+    próxima página é buscada com WHERE (chave, id) > (?, ?) em vez de OFFSET. Cada ordenação
+    suportada tem um índice terminando em id (V10 e V11), então o custo por página não cresce
+    com a posição do cursor.
+*/
+public final class KeysetCursor {
+    public static final int DEFAULT_SIZE = 20;
+
+    private static final String ID = "id";
+    private static final String SEPARATOR = "|";
+
+    private static final Map<String, Function<String, Object>> SORTABLE_PROPERTIES = Map.of(
+            ID, Long::valueOf,
+            "createdDate", LocalDateTime::parse,
+            "lastModifiedDate", LocalDateTime::parse
+    );
+
+    private KeysetCursor() {}
+
+    public static Sort resolveSort(Sort sort) {
+        Sort.Order order = sort.stream().findFirst().orElse(Sort.Order.asc(ID));
+        if (!SORTABLE_PROPERTIES.containsKey(order.getProperty())) {
+            throw new InvalidException("Ordenação não suportada. Os valores válidos são: " +
+                    String.join(", ", SORTABLE_PROPERTIES.keySet()));
+        }
+        if (ID.equals(order.getProperty())) {
+            return Sort.by(order);
+        }
+        return Sort.by(order, new Sort.Order(order.getDirection(), ID));
+    }
+
+    /* maxSize é o mesmo limite das listagens paginadas (api-gestao.web.max-page-size) */
+    public static int resolveSize(int size, int maxSize) {
+        if (size < 1 || size > maxSize) {
+            throw new InvalidException("O tamanho da página deve estar entre 1 e " + maxSize);
+        }
+        return size;
+    }
+
+    public static KeysetScrollPosition decode(String after, Sort sort) {
+        if (after == null || after.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(after), StandardCharsets.UTF_8);
+            String[] values = decoded.split("\\" + SEPARATOR, -1);
+            List<Sort.Order> orders = sort.toList();
+            if (values.length != orders.size()) {
+                throw invalidCursor();
+            }
+            Map<String, Object> keys = new LinkedHashMap<>();
+            for (int i = 0; i < orders.size(); i++) {
+                String property = orders.get(i).getProperty();
+                keys.put(property, SORTABLE_PROPERTIES.get(property).apply(values[i]));
+            }
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw invalidCursor();
+        }
+    }
+
+    public static String encode(Window<?> window, Sort sort) {
+        if (window.isEmpty() || !window.hasNext()) {
+            return null;
+        }
+        KeysetScrollPosition position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+        String raw = sort.stream()
+                .map(order -> String.valueOf(position.getKeys().get(order.getProperty())))
+                .collect(Collectors.joining(SEPARATOR));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static InvalidException invalidCursor() {
+        return new InvalidException("Cursor inválido");
+    }
+}
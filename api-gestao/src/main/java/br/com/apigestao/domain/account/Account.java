@@ -2,15 +2,21 @@ package br.com.apigestao.domain.account;
 
 import br.com.apigestao.core.BaseEntity;
 import br.com.apigestao.domain.customer.Customer;
+import br.com.apigestao.domain.exceptions.InvalidException;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 
 @Getter
 @Setter
@@ -19,11 +25,17 @@ import java.math.BigDecimal;
 @Entity
 @Table(name = "tbl_contas")
 public class Account extends BaseEntity {
+    private static final DateTimeFormatter REFERENCE_FORMAT = DateTimeFormatter.ofPattern("MM-uuuu");
 
     @NotBlank
     @Column(name="referencia" ,nullable = false)
     private String reference;
 
+    /* Chave de partição de tbl_contas, derivada da referência: primeiro dia do mês */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "periodo", nullable = false)
+    private LocalDate billingPeriod;
+
     @NotNull
     @Column(name = "valor",nullable = false)
     @PositiveOrZero
@@ -37,4 +49,29 @@ public class Account extends BaseEntity {
     @ManyToOne
     @JoinColumn(name = "customer_id", nullable = false)
     private Customer customer;
+
+    /* Referências fora do formato MM-AAAA ficam sem período e são barradas pela validação do DTO */
+    public void setReference(String reference) {
+        this.reference = reference;
+        this.billingPeriod = parseBillingPeriod(reference);
+    }
+
+    public static LocalDate billingPeriodOf(String reference) {
+        LocalDate billingPeriod = parseBillingPeriod(reference);
+        if (billingPeriod == null) {
+            throw new InvalidException("Formato inválido. Esperado MM-AAAA");
+        }
+        return billingPeriod;
+    }
+
+    private static LocalDate parseBillingPeriod(String reference) {
+        if (reference == null) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(reference, REFERENCE_FORMAT).atDay(1);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
 }
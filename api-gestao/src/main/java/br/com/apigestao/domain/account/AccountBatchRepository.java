@@ -0,0 +1,52 @@
+package br.com.apigestao.domain.account;
+
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+    O IDENTITY do BaseEntity obriga o Hibernate a executar um INSERT por linha para
+    obter o ID gerado. Neste caminho os IDs são reservados de uma vez na sequence da
+    coluna e as linhas são gravadas com JDBC batch.
+*/
+@AllArgsConstructor
+@Repository
+public class AccountBatchRepository {
+    static final int BATCH_SIZE = 500;
+
+    private static final String RESERVE_IDS_SQL =
+            "SELECT nextval(pg_get_serial_sequence('tbl_contas', 'id')) FROM generate_series(1, ?)";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO tbl_contas (id, referencia, periodo, valor, situacao, customer_id, created_date, " +
+                    "last_modified_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<Account> accounts) {
+        if (accounts.isEmpty()) {
+            return;
+        }
+        List<Long> ids = jdbcTemplate.queryForList(RESERVE_IDS_SQL, Long.class, accounts.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < accounts.size(); i++) {
+            Account account = accounts.get(i);
+            account.setId(ids.get(i));
+            account.setCreatedDate(now);
+            account.setLastModifiedDate(now);
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, accounts, BATCH_SIZE, (ps, account) -> {
+            ps.setLong(1, account.getId());
+            ps.setString(2, account.getReference());
+            ps.setObject(3, account.getBillingPeriod());
+            ps.setBigDecimal(4, account.getValue());
+            ps.setString(5, account.getSituation().name());
+            ps.setLong(6, account.getCustomer().getId());
+            ps.setObject(7, account.getCreatedDate());
+            ps.setObject(8, account.getLastModifiedDate());
+        });
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.apigestao.domain.account;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AccountBatchResultDTO(
+        @Schema(description = "Posição da conta na lista enviada", example = "0")
+        int index,
+
+        @Schema(description = "ID da conta criada", example = "1")
+        Long id,
+
+        @Schema(description = "ID do cliente da conta", example = "1")
+        Long customerId,
+
+        @Schema(description = "Status HTTP equivalente ao resultado da linha", example = "201")
+        int status,
+
+        @Schema(description = "Motivo da rejeição da linha", example = "Cliente não encontrado")
+        String message
+) {
+
+    public static AccountBatchResultDTO ofCreated(int index, Account account) {
+        return new AccountBatchResultDTO(index, account.getId(), account.getCustomer().getId(), 201, null);
+    }
+
+    public static AccountBatchResultDTO ofRejected(int index, Long customerId, int status, String message) {
+        return new AccountBatchResultDTO(index, null, customerId, status, message);
+    }
+}
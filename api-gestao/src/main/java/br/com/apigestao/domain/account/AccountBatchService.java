@@ -0,0 +1,114 @@
+package br.com.apigestao.domain.account;
+
+import br.com.apigestao.domain.customer.CustomerService;
+import br.com.apigestao.domain.exceptions.InvalidException;
+import br.com.apigestao.infrastructure.outbox.ChangeEventType;
+import br.com.apigestao.infrastructure.outbox.OutboxWriter;
+import br.com.apigestao.infrastructure.validations.BatchCreateValidation;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@AllArgsConstructor
+@Service
+public class AccountBatchService {
+    static final int MAX_BATCH_SIZE = 10_000;
+
+    private final AccountBatchRepository accountBatchRepository;
+    private final CustomerService customerService;
+    private final AccountMapper accountMapper;
+    private final Validator validator;
+    private final OutboxWriter outboxWriter;
+    private final Logger log = LoggerFactory.getLogger(AccountBatchService.class);
+
+    @Transactional
+    public List<AccountBatchResultDTO> createAccounts(List<AccountDTO> accountDTOs) {
+        validateBatch(accountDTOs);
+
+        Set<Long> customerIds = accountDTOs.stream()
+                .filter(Objects::nonNull)
+                .map(AccountDTO::customerId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> existingCustomerIds = customerService.findExistingIds(customerIds);
+
+        AccountBatchResultDTO[] results = new AccountBatchResultDTO[accountDTOs.size()];
+        List<Account> acceptedAccounts = new ArrayList<>();
+        List<Integer> acceptedIndexes = new ArrayList<>();
+
+        for (int i = 0; i < accountDTOs.size(); i++) {
+            AccountDTO accountDTO = accountDTOs.get(i);
+            AccountBatchResultDTO rejection = validateItem(i, accountDTO, existingCustomerIds);
+            if (rejection != null) {
+                results[i] = rejection;
+                continue;
+            }
+            acceptedAccounts.add(accountMapper.toEntity(accountDTO));
+            acceptedIndexes.add(i);
+        }
+
+        accountBatchRepository.insertAll(acceptedAccounts);
+
+        for (int i = 0; i < acceptedAccounts.size(); i++) {
+            int index = acceptedIndexes.get(i);
+            results[index] = AccountBatchResultDTO.ofCreated(index, acceptedAccounts.get(i));
+        }
+        outboxWriter.appendAll(ChangeEventType.ACCOUNT_CREATED,
+                acceptedAccounts.stream().map(accountMapper::toDto).toList(), AccountDTO::id, AccountDTO::customerId);
+
+        log.info("{} contas criadas em lote, {} rejeitadas [requestId={}]", acceptedAccounts.size(),
+                accountDTOs.size() - acceptedAccounts.size(), MDC.get("requestId"));
+        return Arrays.asList(results);
+    }
+
+    private void validateBatch(List<AccountDTO> accountDTOs) {
+        if (accountDTOs == null || accountDTOs.isEmpty()) {
+            log.error("Lista de contas vazia [requestId={}]", MDC.get("requestId"));
+            throw new InvalidException("A lista de contas não pode ser vazia");
+        }
+        if (accountDTOs.size() > MAX_BATCH_SIZE) {
+            log.error("Lista de contas excede o limite de {} itens [requestId={}]", MAX_BATCH_SIZE, MDC.get("requestId"));
+            throw new InvalidException("A lista de contas não pode ter mais de " + MAX_BATCH_SIZE + " itens");
+        }
+    }
+
+    private AccountBatchResultDTO validateItem(int index, AccountDTO accountDTO, Set<Long> existingCustomerIds) {
+        if (accountDTO == null) {
+            return AccountBatchResultDTO.ofRejected(index, null, HttpStatus.BAD_REQUEST.value(),
+                    "A conta não pode ser nula");
+        }
+
+        Set<ConstraintViolation<AccountDTO>> violations = validator.validate(accountDTO, BatchCreateValidation.class);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            return AccountBatchResultDTO.ofRejected(index, accountDTO.customerId(), HttpStatus.BAD_REQUEST.value(),
+                    message);
+        }
+
+        if (!existingCustomerIds.contains(accountDTO.customerId())) {
+            return AccountBatchResultDTO.ofRejected(index, accountDTO.customerId(), HttpStatus.NOT_FOUND.value(),
+                    "Cliente não encontrado");
+        }
+
+        if (Situation.CANCELADA.name().equalsIgnoreCase(accountDTO.situation())) {
+            return AccountBatchResultDTO.ofRejected(index, accountDTO.customerId(), HttpStatus.BAD_REQUEST.value(),
+                    "Não é possível criar uma conta com esta situação");
+        }
+        return null;
+    }
+}
@@ -1,22 +1,40 @@
 package br.com.apigestao.domain.account;
 
 import br.com.apigestao.core.ApplicationResponse;
+import br.com.apigestao.core.ChangeMarker;
+import br.com.apigestao.core.CursorPage;
+import br.com.apigestao.core.KeysetCursor;
+import br.com.apigestao.infrastructure.admission.AdmissionGroup;
+import br.com.apigestao.infrastructure.config.WebConfig;
+import br.com.apigestao.infrastructure.idempotency.Idempotent;
+import br.com.apigestao.infrastructure.sql.SqlStatementBudget;
 import br.com.apigestao.infrastructure.validations.CreateValidation;
 import br.com.apigestao.infrastructure.validations.UpdateValidation;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.AllArgsConstructor;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import java.io.IOException;
 import java.net.URI;
+import java.util.List;
 
 @Tag(name = "Contas", description = "Operações relacionadas ao gerenciamento de contas, incluindo a atualização e " +
         "desabilitação de registros.")
@@ -25,7 +43,11 @@ import java.net.URI;
 @RestController
 public class AccountController {
     private final AccountService accountService;
+    private final AccountBatchService accountBatchService;
+    private final AccountTransitionService accountTransitionService;
+    private final AccountExportService accountExportService;
     private final AccountMapper accountMapper;
+    private final WebConfig webConfig;
 
     @Operation(
             summary = "Criar uma nova conta",
@@ -50,6 +72,11 @@ public class AccountController {
                     examples = @ExampleObject(value = "{\"message\": \"Formato inválido. Esperado MM-AAAA\"}")
             )
     })
+    @Parameter(in = ParameterIn.HEADER, name = "Idempotency-Key", required = false,
+            description = "Chave única da criação. Repetições com a mesma chave devolvem a primeira resposta " +
+                    "sem criar outro registro", schema = @Schema(type = "string", maxLength = 255))
+    @Idempotent
+    @AdmissionGroup(AdmissionGroup.WRITES)
     @PostMapping("/clientes/{idCliente}/contas")
     public ResponseEntity<Void> createAccount(
             @PathVariable Long idCliente,
@@ -71,35 +98,237 @@ public class AccountController {
                 .build();
     }
 
+    @Operation(
+            summary = "Criar contas em lote",
+            description = "Cria contas de vários clientes em uma única transação utilizando inserções em lote. " +
+                    "Cada item deve informar o customerId. O resultado de cada item é retornado separadamente, " +
+                    "de forma que itens inválidos não impedem a criação dos demais."
+    )
+    @ApiResponse(responseCode = "200", description = "Lote processado. Verifique o status de cada item.", content = {
+            @Content(
+                    mediaType = "application/json",
+                    examples = @ExampleObject(value = "{\"data\": [{\"index\": 0, \"id\": 10, \"customerId\": 1, " +
+                            "\"status\": 201}, {\"index\": 1, \"customerId\": 99, \"status\": 404, " +
+                            "\"message\": \"Cliente não encontrado\"}]}")
+            )
+    })
+    @ApiResponse(responseCode = "400", description = "Lista de contas vazia ou acima do limite permitido", content = {
+            @Content(
+                    mediaType = "application/json",
+                    examples = @ExampleObject(value = "{\"message\": \"A lista de contas não pode ser vazia\"}")
+            )
+    })
+    @AdmissionGroup(AdmissionGroup.WRITES)
+    @PostMapping("/contas/lote")
+    public ResponseEntity<ApplicationResponse<List<AccountBatchResultDTO>>> createAccounts(
+            @RequestBody List<AccountDTO> accountDTOs) {
+        List<AccountBatchResultDTO> results = accountBatchService.createAccounts(accountDTOs);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ApplicationResponse.ofSuccess(results));
+    }
+
+    @Operation(
+            summary = "Alterar a situação de contas em lote",
+            description = "Altera a situação (ex.: PAGA ou CANCELADA) de várias contas em uma única transação. " +
+                    "As contas podem ser informadas pela lista de IDs ou pelo customerId, opcionalmente " +
+                    "restrito a uma referência. Contas canceladas não são alteradas e o resultado de cada " +
+                    "conta é retornado separadamente."
+    )
+    @ApiResponse(responseCode = "200", description = "Lote processado. Verifique o status de cada conta.", content = {
+            @Content(
+                    mediaType = "application/json",
+                    examples = @ExampleObject(value = "{\"data\": [{\"id\": 1, \"status\": 200}, " +
+                            "{\"id\": 2, \"status\": 401, \"message\": \"Contas canceladas não podem ser " +
+                            "atualizadas\"}, {\"id\": 99, \"status\": 404, \"message\": \"Conta não encontrada\"}]}")
+            )
+    })
+    @ApiResponse(responseCode = "400", description = "Critério de seleção inválido ou acima do limite permitido", content = {
+            @Content(
+                    mediaType = "application/json",
+                    examples = @ExampleObject(value = "{\"message\": \"Informe a lista de IDs ou o customerId, " +
+                            "mas não ambos\"}")
+            )
+    })
+    @ApiResponse(responseCode = "404", description = "Cliente não encontrado", content = {})
+    @AdmissionGroup(AdmissionGroup.WRITES)
+    @PatchMapping("/contas/lote/situacao")
+    public ResponseEntity<ApplicationResponse<List<AccountTransitionResultDTO>>> transitionAccounts(
+            @Validated @RequestBody AccountTransitionDTO transitionDTO) {
+        List<AccountTransitionResultDTO> results = accountTransitionService.transitionAccounts(transitionDTO);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ApplicationResponse.ofSuccess(results));
+    }
+
     @Operation(
             summary = "Listar todas as contas de um cliente",
-            description = "Lista todas as contas associadas a um cliente com base no ID do cliente fornecido."
+            description = "Lista todas as contas associadas a um cliente com base no ID do cliente fornecido. " +
+                    "A resposta traz ETag e Last-Modified; com If-None-Match ou If-Modified-Since válidos, " +
+                    "retorna 304 sem executar a consulta das contas."
     )
     @ApiResponse(responseCode = "200", description = "Contas recuperadas com sucesso.", content = {})
+    @ApiResponse(responseCode = "304", description = "As contas não foram alteradas.", content = {})
     @ApiResponse(responseCode = "404", description = "Cliente não encontrado.",
             content = @Content(
                     mediaType = "application/json",
                     examples = @ExampleObject(value = "{\"message\":\"Cliente não encontrado\"}")
             )
-    )@GetMapping("/clientes/{idCliente}/contas")
+    )
+    @SqlStatementBudget(3)
+    @AdmissionGroup(AdmissionGroup.LISTINGS)
+    @GetMapping("/clientes/{idCliente}/contas")
     public ResponseEntity<ApplicationResponse<Page<AccountDTO>>> getAccounts(
             @PathVariable Long idCliente,
-            Pageable pageable) {
+            Pageable pageable,
+            WebRequest webRequest) {
 
-        Page<Account> accounts = accountService.findAccountsByCustomerId(idCliente, pageable);
+        ChangeMarker changeMarker = accountService.findAccountsChangeMarker(idCliente);
+        if (webRequest.checkNotModified(changeMarker.eTag(), changeMarker.lastModifiedMillis())) {
+            return null;
+        }
 
-        Page<AccountDTO> accountDTO = accountMapper.toDto(accounts);
+        Page<AccountDTO> accountDTO = accountService.findAccountsByCustomerId(idCliente, pageable, changeMarker);
 
         return ResponseEntity.status(HttpStatus.OK)
                 .body(ApplicationResponse.ofSuccess(accountDTO));
     }
 
+    @Operation(
+            summary = "Percorrer as contas de um cliente com paginação por cursor",
+            description = "Lista as contas de um cliente utilizando paginação por cursor (keyset), sem contagem " +
+                    "total. O campo 'next' da resposta deve ser enviado no parâmetro 'after' para obter a página " +
+                    "seguinte. Ordenações suportadas: id, createdDate e lastModifiedDate."
+    )
+    @ApiResponse(responseCode = "200", description = "Contas recuperadas com sucesso.", content = {})
+    @ApiResponse(responseCode = "400", description = "Cursor, ordenação ou tamanho de página inválidos", content = {})
+    @ApiResponse(responseCode = "404", description = "Cliente não encontrado.",
+            content = @Content(
+                    mediaType = "application/json",
+                    examples = @ExampleObject(value = "{\"message\":\"Cliente não encontrado\"}")
+            )
+    )
+    @SqlStatementBudget(2)
+    @AdmissionGroup(AdmissionGroup.LISTINGS)
+    @GetMapping("/clientes/{idCliente}/contas/scroll")
+    public ResponseEntity<ApplicationResponse<CursorPage<AccountDTO>>> scrollAccounts(
+            @PathVariable Long idCliente,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "size", defaultValue = "" + KeysetCursor.DEFAULT_SIZE) int size,
+            Sort sort) {
+
+        Sort keysetSort = KeysetCursor.resolveSort(sort);
+        KeysetScrollPosition position = KeysetCursor.decode(after, keysetSort);
+
+        Window<Account> accounts = accountService.scrollAccountsByCustomerId(idCliente, position, keysetSort,
+                KeysetCursor.resolveSize(size, webConfig.getMaxPageSize()));
+        Window<AccountDTO> accountDTO = accountMapper.toDto(accounts);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApplicationResponse.ofSuccess(CursorPage.of(accountDTO, keysetSort)));
+    }
+
+    @Operation(
+            summary = "Resumo das contas de um cliente",
+            description = "Retorna a quantidade e a soma dos valores das contas de um cliente agrupadas por " +
+                    "situação. Com 'groupByReference=true', o agrupamento também considera a referência (MM-AAAA)."
+    )
+    @ApiResponse(responseCode = "200", description = "Resumo calculado com sucesso", content = {
+            @Content(
+                    mediaType = "application/json",
+                    examples = @ExampleObject(value = "{\"data\": [{\"situation\": \"PENDENTE\", \"count\": 2, " +
+                            "\"total\": 500.00}, {\"situation\": \"PAGA\", \"count\": 1, \"total\": 250.00}]}")
+            )
+    })
+    @ApiResponse(responseCode = "404", description = "Cliente não encontrado.",
+            content = @Content(
+                    mediaType = "application/json",
+                    examples = @ExampleObject(value = "{\"message\":\"Cliente não encontrado\"}")
+            )
+    )
+    @SqlStatementBudget(2)
+    @AdmissionGroup(AdmissionGroup.LISTINGS)
+    @GetMapping("/clientes/{idCliente}/contas/resumo")
+    public ResponseEntity<ApplicationResponse<List<AccountSummaryDTO>>> summarizeCustomerAccounts(
+            @PathVariable Long idCliente,
+            @RequestParam(value = "groupByReference", defaultValue = "false") boolean groupByReference) {
+        List<AccountSummaryDTO> summary = accountService.summarizeAccountsByCustomerId(idCliente, groupByReference);
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApplicationResponse.ofSuccess(summary));
+    }
+
+    @Operation(
+            summary = "Resumo de todas as contas",
+            description = "Retorna a quantidade e a soma dos valores de todas as contas da carteira agrupadas por " +
+                    "situação. Com 'groupByReference=true', o agrupamento também considera a referência (MM-AAAA)."
+    )
+    @ApiResponse(responseCode = "200", description = "Resumo calculado com sucesso", content = {})
+    @SqlStatementBudget(1)
+    @AdmissionGroup(AdmissionGroup.LISTINGS)
+    @GetMapping("/contas/resumo")
+    public ResponseEntity<ApplicationResponse<List<AccountSummaryDTO>>> summarizeAllAccounts(
+            @RequestParam(value = "groupByReference", defaultValue = "false") boolean groupByReference) {
+        List<AccountSummaryDTO> summary = accountService.summarizeAccounts(groupByReference);
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApplicationResponse.ofSuccess(summary));
+    }
+
+    @Operation(
+            summary = "Exportar as contas de um cliente",
+            description = "Exporta todas as contas de um cliente em CSV ou NDJSON. As linhas são lidas do banco " +
+                    "por cursor e escritas na resposta à medida que chegam, sem paginação."
+    )
+    @ApiResponse(responseCode = "200", description = "Exportação gerada com sucesso", content = {})
+    @ApiResponse(responseCode = "400", description = "Formato inválido", content = {})
+    @ApiResponse(responseCode = "404", description = "Cliente não encontrado.",
+            content = @Content(
+                    mediaType = "application/json",
+                    examples = @ExampleObject(value = "{\"message\":\"Cliente não encontrado\"}")
+            )
+    )
+    @AdmissionGroup(AdmissionGroup.EXPORTS)
+    @GetMapping("/clientes/{idCliente}/contas/export")
+    public void exportCustomerAccounts(
+            @PathVariable Long idCliente,
+            @RequestParam(value = "format", defaultValue = "csv") String format,
+            HttpServletResponse response) throws IOException {
+        exportAccounts(idCliente, AccountExportFormat.from(format), "contas-cliente-" + idCliente, response);
+    }
+
+    @Operation(
+            summary = "Exportar todas as contas",
+            description = "Exporta todas as contas de todos os clientes em CSV ou NDJSON. As linhas são lidas do " +
+                    "banco por cursor e escritas na resposta à medida que chegam, sem paginação."
+    )
+    @ApiResponse(responseCode = "200", description = "Exportação gerada com sucesso", content = {})
+    @ApiResponse(responseCode = "400", description = "Formato inválido", content = {})
+    @AdmissionGroup(AdmissionGroup.EXPORTS)
+    @GetMapping("/contas/export")
+    public void exportAllAccounts(
+            @RequestParam(value = "format", defaultValue = "csv") String format,
+            HttpServletResponse response) throws IOException {
+        exportAccounts(null, AccountExportFormat.from(format), "contas", response);
+    }
+
+    private void exportAccounts(Long idCliente, AccountExportFormat format, String fileName,
+                                HttpServletResponse response) throws IOException {
+        accountExportService.exportAccounts(idCliente, format, () -> {
+            response.setStatus(HttpStatus.OK.value());
+            response.setCharacterEncoding("UTF-8");
+            response.setContentType(format.getContentType());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                    "attachment; filename=\"" + fileName + "." + format.getExtension() + "\"");
+            return response.getWriter();
+        });
+    }
+
     @Operation(
             summary = "Desabilitar uma conta existente",
             description = "Esta operação desabilita uma conta existente utilizando o ID da conta fornecido."
     )
     @ApiResponse(responseCode = "204", description = "Conta desabilitada com sucesso", content = {})
     @ApiResponse(responseCode = "404", description = "Conta não encontrada", content = {})
+    @AdmissionGroup(AdmissionGroup.WRITES)
     @PatchMapping("/contas/{id}")
     public ResponseEntity<Void> disableAccount(@PathVariable Long id) {
         accountService.deleteAccount(id);
@@ -115,14 +344,15 @@ public class AccountController {
     @ApiResponse(responseCode = "200", description = "Conta atualizada com sucesso", content = {})
     @ApiResponse(responseCode = "404", description = "Conta não encontrada", content = {})
     @ApiResponse(responseCode = "403", description = "Ação não autorizada", content = {})
+    @SqlStatementBudget(4)
+    @AdmissionGroup(AdmissionGroup.WRITES)
     @PutMapping("/contas/{id}")
     public ResponseEntity<ApplicationResponse<AccountDTO>> updateAccount(
             @PathVariable Long id,
             @Validated(UpdateValidation.class)
             @RequestBody AccountDTO accountDTOUpdates) {
-        Account accountUpdated = accountService.updateAccount(id, Account ->
+        AccountDTO updatedAccountDto = accountService.updateAccount(id, Account ->
                 accountMapper.mergeNonNull(accountDTOUpdates, Account));
-        AccountDTO updatedAccountDto = accountMapper.toDto(accountUpdated);
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(ApplicationResponse.ofSuccess(updatedAccountDto));
@@ -0,0 +1,24 @@
+package br.com.apigestao.domain.account;
+
+import br.com.apigestao.domain.exceptions.InvalidException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.util.Locale;
+
+@Getter
+@AllArgsConstructor
+public enum AccountExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    public static AccountExportFormat from(String format) {
+        try {
+            return valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new InvalidException("Formato inválido. Os valores válidos são: csv, ndjson");
+        }
+    }
+}
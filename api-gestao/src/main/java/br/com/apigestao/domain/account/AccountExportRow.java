@@ -0,0 +1,14 @@
+package br.com.apigestao.domain.account;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record AccountExportRow(
+        Long id,
+        Long customerId,
+        String reference,
+        BigDecimal value,
+        Situation situation,
+        LocalDateTime createdDate,
+        LocalDateTime lastModifiedDate
+) {}
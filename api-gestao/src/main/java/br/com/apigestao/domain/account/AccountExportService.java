@@ -0,0 +1,87 @@
+package br.com.apigestao.domain.account;
+
+import br.com.apigestao.domain.customer.CustomerService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.function.ThrowingSupplier;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/*
+    Exporta contas lendo o banco por um cursor forward-only (Stream com fetch size) e escrevendo
+    cada linha diretamente na saída, sem materializar páginas nem entidades gerenciadas.
+*/
+@AllArgsConstructor
+@Service
+public class AccountExportService {
+    private static final String CSV_HEADER = "id,customerId,reference,value,situation,createdDate,lastModifiedDate";
+
+    private final AccountRepository accountRepository;
+    private final CustomerService customerService;
+    private final ObjectMapper objectMapper;
+    private final Logger log = LoggerFactory.getLogger(AccountExportService.class);
+
+    @Transactional(readOnly = true)
+    public long exportAccounts(Long idCliente, AccountExportFormat format, ThrowingSupplier<Writer> writerSupplier)
+            throws IOException {
+        if (idCliente != null) {
+            customerService.findById(idCliente);
+        }
+
+        Writer writer = writerSupplier.get();
+        if (format == AccountExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long rows = 0;
+        try (Stream<AccountExportRow> stream = idCliente == null
+                ? accountRepository.streamExportAll()
+                : accountRepository.streamExportByCustomerId(idCliente)) {
+            Iterator<AccountExportRow> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                writeRow(writer, format, iterator.next());
+                rows++;
+            }
+        }
+        writer.flush();
+
+        log.info("{} contas exportadas em {} [requestId={}]", rows, format, MDC.get("requestId"));
+        return rows;
+    }
+
+    private void writeRow(Writer writer, AccountExportFormat format, AccountExportRow row) throws IOException {
+        if (format == AccountExportFormat.NDJSON) {
+            writer.write(objectMapper.writeValueAsString(row));
+        } else {
+            writer.write(String.valueOf(row.id()));
+            writer.write(',');
+            writer.write(String.valueOf(row.customerId()));
+            writer.write(',');
+            writer.write(csvField(row.reference()));
+            writer.write(',');
+            writer.write(row.value().toPlainString());
+            writer.write(',');
+            writer.write(row.situation().name());
+            writer.write(',');
+            writer.write(String.valueOf(row.createdDate()));
+            writer.write(',');
+            writer.write(String.valueOf(row.lastModifiedDate()));
+        }
+        writer.write('\n');
+    }
+
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
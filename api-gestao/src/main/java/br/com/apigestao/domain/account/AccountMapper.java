@@ -3,6 +3,7 @@ package br.com.apigestao.domain.account;
 import br.com.apigestao.core.BaseMapper;
 import br.com.apigestao.domain.customer.Customer;
 import org.mapstruct.*;
+import java.util.Locale;
 
 @Mapper(componentModel = "spring")
 public interface AccountMapper extends BaseMapper<Account, AccountDTO> {
@@ -26,4 +27,8 @@ public interface AccountMapper extends BaseMapper<Account, AccountDTO> {
         customer.setId(customerId);
         return customer;
     }
+
+    default Situation toSituation(String situation) {
+        return situation == null ? null : Situation.valueOf(situation.toUpperCase(Locale.ROOT));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,86 @@
+package br.com.apigestao.domain.account;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/*
+    Mantém criadas as partições de tbl_contas dos próximos meses. A função
+    create_tbl_contas_partition (V7) é idempotente e move para a nova partição as contas
+    do mês que tenham caído na partição padrão.
+
+    Todas as instâncias executam na subida e no agendamento. Só a que obtiver o advisory lock
+    cria as partições; as demais seguem sem esperar. Uma partição criada fora da aplicação entre
+    a verificação e o CREATE TABLE (duplicate_table) também é tratada como sucesso.
+*/
+@Component
+public class AccountPartitionMaintenance {
+    static final int PARTITION_LOCK_NAMESPACE = 0x0B0E;
+
+    private static final String LOCK_SQL = "SELECT pg_try_advisory_xact_lock(?, 0)";
+    private static final String CREATE_PARTITION_SQL = "SELECT create_tbl_contas_partition(?)";
+    private static final String DUPLICATE_TABLE = "42P07";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final Logger log = LoggerFactory.getLogger(AccountPartitionMaintenance.class);
+
+    public AccountPartitionMaintenance(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                       @Value("${api-gestao.partitions.months-ahead:12}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.monthsAhead = monthsAhead;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${api-gestao.partitions.cron:0 0 3 * * *}")
+    public void createUpcomingPartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            LocalDate billingPeriod = current.plusMonths(i).atDay(1);
+            if (!createPartition(billingPeriod)) {
+                log.info("Partições de contas em manutenção por outra instância");
+                return;
+            }
+        }
+        log.info("Partições de contas verificadas até {}", current.plusMonths(monthsAhead));
+    }
+
+    /* Retorna false quando outra instância detém o lock de manutenção */
+    private boolean createPartition(LocalDate billingPeriod) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(LOCK_SQL, Boolean.class,
+                        PARTITION_LOCK_NAMESPACE))) {
+                    return false;
+                }
+                String partition = jdbcTemplate.queryForObject(CREATE_PARTITION_SQL, String.class, billingPeriod);
+                log.debug("Partição {} disponível para o período {}", partition, billingPeriod);
+                return true;
+            }));
+        } catch (DataAccessException e) {
+            if (!isDuplicateTable(e)) {
+                throw e;
+            }
+            log.debug("Partição do período {} criada concorrentemente", billingPeriod);
+            return true;
+        }
+    }
+
+    private static boolean isDuplicateTable(DataAccessException e) {
+        return e.getMostSpecificCause() instanceof SQLException sqlException
+                && DUPLICATE_TABLE.equals(sqlException.getSQLState());
+    }
+}
@@ -1,10 +1,95 @@
 package br.com.apigestao.domain.account;
 
-import br.com.apigestao.domain.customer.Customer;
-import org.springframework.data.domain.Page;
+import br.com.apigestao.core.ChangeMarker;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface AccountRepository extends JpaRepository<Account, Long> {
-    Page<Account> findByCustomer(Customer customer, Pageable pageable);
+public interface AccountRepository extends JpaRepository<Account, Long>, JpaSpecificationExecutor<Account> {
+    /*
+        Listagem projetada direto no DTO: customer.id vem da própria chave estrangeira, sem join ou select
+        adicional do cliente, e nenhuma entidade é hidratada no contexto de persistência. O total de
+        registros vem do ChangeMarker, por isso a consulta não tem count.
+    */
+    @Query("SELECT new br.com.apigestao.domain.account.AccountDTO(a.id, a.reference, a.value, a.customer.id, " +
+            "cast(a.situation as String), a.createdDate, a.lastModifiedDate) FROM Account a " +
+            "WHERE a.customer.id = :customerId")
+    List<AccountDTO> findDtoByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
+
+    @Query("SELECT new br.com.apigestao.core.ChangeMarker(count(a), max(a.lastModifiedDate)) FROM Account a " +
+            "WHERE a.customer.id = :customerId")
+    ChangeMarker findChangeMarkerByCustomerId(@Param("customerId") Long customerId);
+
+    @Modifying
+    @Query("UPDATE Account a SET a.situation = br.com.apigestao.domain.account.Situation.CANCELADA, " +
+            "a.lastModifiedDate = :now WHERE a.id = :id " +
+            "AND a.situation <> br.com.apigestao.domain.account.Situation.CANCELADA")
+    int cancelIfNotCancelled(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Query("SELECT a.situation FROM Account a WHERE a.id = :id")
+    Optional<Situation> findSituationById(@Param("id") Long id);
+
+    @Query("SELECT a.customer.id FROM Account a WHERE a.id = :id")
+    Optional<Long> findCustomerIdById(@Param("id") Long id);
+
+    @Query("SELECT a.id FROM Account a WHERE a.customer.id = :customerId ORDER BY a.id")
+    List<Long> findIdsByCustomerId(@Param("customerId") Long customerId);
+
+    /* O filtro pelo período (chave de partição) limita a consulta à partição do mês */
+    @Query("SELECT a.id FROM Account a WHERE a.customer.id = :customerId AND a.billingPeriod = :billingPeriod " +
+            "ORDER BY a.id")
+    List<Long> findIdsByCustomerIdAndBillingPeriod(@Param("customerId") Long customerId,
+                                                   @Param("billingPeriod") LocalDate billingPeriod);
+
+    String EXPORT_FETCH_SIZE = "1000";
+
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new br.com.apigestao.domain.account.AccountExportRow(a.id, a.customer.id, a.reference, a.value, " +
+            "a.situation, a.createdDate, a.lastModifiedDate) FROM Account a WHERE a.customer.id = :customerId " +
+            "ORDER BY a.id")
+    Stream<AccountExportRow> streamExportByCustomerId(@Param("customerId") Long customerId);
+
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new br.com.apigestao.domain.account.AccountExportRow(a.id, a.customer.id, a.reference, a.value, " +
+            "a.situation, a.createdDate, a.lastModifiedDate) FROM Account a ORDER BY a.id")
+    Stream<AccountExportRow> streamExportAll();
+
+    /*
+        Resumos calculados no banco: uma única consulta agregada, sem carregar entidades.
+        A referência (MM-AAAA) é ordenada pelo período de faturamento.
+    */
+    @Query("SELECT new br.com.apigestao.domain.account.AccountSummaryDTO(a.situation, count(a), sum(a.value)) " +
+            "FROM Account a WHERE a.customer.id = :customerId GROUP BY a.situation ORDER BY a.situation")
+    List<AccountSummaryDTO> summarizeByCustomerId(@Param("customerId") Long customerId);
+
+    @Query("SELECT new br.com.apigestao.domain.account.AccountSummaryDTO(a.reference, a.situation, count(a), " +
+            "sum(a.value)) FROM Account a WHERE a.customer.id = :customerId " +
+            "GROUP BY a.billingPeriod, a.reference, a.situation ORDER BY a.billingPeriod, a.situation")
+    List<AccountSummaryDTO> summarizeByCustomerIdAndReference(@Param("customerId") Long customerId);
+
+    @Query("SELECT new br.com.apigestao.domain.account.AccountSummaryDTO(a.situation, count(a), sum(a.value)) " +
+            "FROM Account a GROUP BY a.situation ORDER BY a.situation")
+    List<AccountSummaryDTO> summarizeAll();
+
+    @Query("SELECT new br.com.apigestao.domain.account.AccountSummaryDTO(a.reference, a.situation, count(a), " +
+            "sum(a.value)) FROM Account a GROUP BY a.billingPeriod, a.reference, a.situation " +
+            "ORDER BY a.billingPeriod, a.situation")
+    List<AccountSummaryDTO> summarizeAllByReference();
 }
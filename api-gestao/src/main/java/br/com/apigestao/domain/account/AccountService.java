@@ -1,26 +1,43 @@
 package br.com.apigestao.domain.account;
 
+import br.com.apigestao.core.BaseException;
+import br.com.apigestao.core.ChangeMarker;
 import br.com.apigestao.domain.customer.Customer;
 import br.com.apigestao.domain.customer.CustomerService;
 import br.com.apigestao.domain.exceptions.InvalidException;
 import br.com.apigestao.domain.exceptions.NotFoundException;
 import br.com.apigestao.domain.exceptions.UnauthorizedException;
+import br.com.apigestao.infrastructure.outbox.ChangeEventType;
+import br.com.apigestao.infrastructure.outbox.OutboxWriter;
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Consumer;
 
+@Timed(value = "apigestao.service", description = "Tempo de execução dos métodos de serviço")
 @AllArgsConstructor
 @Service
 public class AccountService {
     private final AccountRepository accountRepository;
+    private final AccountTransitionRepository accountTransitionRepository;
     private final CustomerService customerService;
+    private final AccountMapper accountMapper;
+    private final OutboxWriter outboxWriter;
     private final Logger log = LoggerFactory.getLogger(AccountService.class);
 
     @Transactional
@@ -28,8 +45,11 @@ public class AccountService {
         Customer customer = customerService.findById(idCliente);
         account.setCustomer(customer);
         createValidation(account);
+        Account savedAccount = accountRepository.save(account);
+        outboxWriter.append(ChangeEventType.ACCOUNT_CREATED, savedAccount.getId(), customer.getId(),
+                () -> accountMapper.toDto(savedAccount));
         log.info("Conta criada com sucesso");
-        return accountRepository.save(account);
+        return savedAccount;
     }
 
     private void createValidation(Account account) {
@@ -40,9 +60,40 @@ public class AccountService {
     }
 
     @Transactional(readOnly = true)
-    public Page<Account> findAccountsByCustomerId(Long idCliente, Pageable pageable) {
+    public ChangeMarker findAccountsChangeMarker(Long idCliente) {
         Customer customer = customerService.findById(idCliente);
-        return accountRepository.findByCustomer(customer, pageable);
+        return accountRepository.findChangeMarkerByCustomerId(customer.getId());
+    }
+
+    @Transactional(readOnly = true)
+    public Page<AccountDTO> findAccountsByCustomerId(Long idCliente, Pageable pageable, ChangeMarker changeMarker) {
+        Customer customer = customerService.findById(idCliente);
+        List<AccountDTO> accounts = accountRepository.findDtoByCustomerId(customer.getId(), pageable);
+        return PageableExecutionUtils.getPage(accounts, pageable, changeMarker::count);
+    }
+
+    @Transactional(readOnly = true)
+    public Window<Account> scrollAccountsByCustomerId(Long idCliente, KeysetScrollPosition position, Sort sort,
+                                                      int limit) {
+        Customer customer = customerService.findById(idCliente);
+        Specification<Account> byCustomer = (root, query, criteriaBuilder) ->
+                criteriaBuilder.equal(root.get("customer"), customer);
+        return accountRepository.findBy(byCustomer, query -> query.sortBy(sort).limit(limit).scroll(position));
+    }
+
+    @Transactional(readOnly = true)
+    public List<AccountSummaryDTO> summarizeAccountsByCustomerId(Long idCliente, boolean groupByReference) {
+        Customer customer = customerService.findById(idCliente);
+        return groupByReference
+                ? accountRepository.summarizeByCustomerIdAndReference(customer.getId())
+                : accountRepository.summarizeByCustomerId(customer.getId());
+    }
+
+    @Transactional(readOnly = true)
+    public List<AccountSummaryDTO> summarizeAccounts(boolean groupByReference) {
+        return groupByReference
+                ? accountRepository.summarizeAllByReference()
+                : accountRepository.summarizeAll();
     }
 
     @Transactional(readOnly = true)
@@ -54,33 +105,63 @@ public class AccountService {
     }
 
     @Transactional
-    public Account updateAccount(Long id, Consumer<Account> mergeNonNull) {
-        Account account = findById(id);
-        Account updatedAccount = new Account();
-        mergeNonNull.accept(updatedAccount);
-        validateUpdate(account, updatedAccount);
-        mergeNonNull.accept(account);
-        Account updatedAccountInDb = accountRepository.save(account);
-        log.info("Conta com ID: {} atualizada com sucesso [requestId={}]", account.getId(), MDC.get("requestId"));
-        return updatedAccountInDb;
+    public AccountDTO updateAccount(Long id, Consumer<Account> mergeNonNull) {
+        Account changes = new Account();
+        mergeNonNull.accept(changes);
+        validateUpdate(id, changes);
+        if (changes.getCustomer() != null) {
+            customerService.findById(changes.getCustomer().getId());
+        }
+        AccountDTO updatedAccount = accountTransitionRepository.updateIfNotCancelled(id, changes)
+                .orElseThrow(() -> rejectedTransition(id));
+        outboxWriter.append(ChangeEventType.ACCOUNT_UPDATED, id, updatedAccount.customerId(), () -> updatedAccount);
+        log.info("Conta com ID: {} atualizada com sucesso [requestId={}]", id, MDC.get("requestId"));
+        return updatedAccount;
     }
 
-    private void validateUpdate(Account account, Account updatedAccount) {
-        if (account.getSituation().equals(Situation.CANCELADA)) {
-            log.error("Contas canceladas não podem ser atualizadas [requestId={}]", MDC.get("requestId"));
-            throw new UnauthorizedException("Contas canceladas não podem ser atualizadas");
-        }
+    /*
+        Conta inexistente ou cancelada tem precedência sobre o valor negativo, como na validação
+        sobre a entidade carregada. A situação só é consultada quando o valor é negativo.
+    */
+    private void validateUpdate(Long id, Account updatedAccount) {
         if (updatedAccount.getValue() !=null && updatedAccount.getValue().compareTo(BigDecimal.ZERO) < 0) {
+            Optional<Situation> situation = accountRepository.findSituationById(id);
+            if (situation.isEmpty() || situation.get() == Situation.CANCELADA) {
+                throw rejectedTransition(situation);
+            }
             log.error("O valor final após a atualização não pode ser negativo [requestId={}]", MDC.get("requestId"));
             throw new InvalidException("O valor final após a atualização não pode ser negativo");
         }
     }
 
+    /*
+        Nenhuma linha afetada pelo UPDATE condicional: a conta não existe ou já está cancelada.
+        Só neste caso a situação é consultada para escolher o erro.
+    */
+    private BaseException rejectedTransition(Long id) {
+        return rejectedTransition(accountRepository.findSituationById(id));
+    }
+
+    private BaseException rejectedTransition(Optional<Situation> situation) {
+        if (situation.isEmpty()) {
+            log.error("Conta não encontrada [requestId={}]", MDC.get("requestId"));
+            return new NotFoundException("Conta não encontrada");
+        }
+        log.error("Contas canceladas não podem ser atualizadas [requestId={}]", MDC.get("requestId"));
+        return new UnauthorizedException("Contas canceladas não podem ser atualizadas");
+    }
+
     @Transactional
     public void deleteAccount(Long id) {
-        Account account = findById(id);
-        account.setSituation(Situation.CANCELADA);
+        int cancelled = accountRepository.cancelIfNotCancelled(id, LocalDateTime.now());
+        if (cancelled == 0 && accountRepository.findSituationById(id).isEmpty()) {
+            log.error("Conta não encontrada [requestId={}]", MDC.get("requestId"));
+            throw new NotFoundException("Conta não encontrada");
+        }
+        if (cancelled > 0) {
+            accountRepository.findCustomerIdById(id).ifPresent(customerId ->
+                    outboxWriter.append(ChangeEventType.ACCOUNT_CANCELLED, id, customerId));
+        }
         log.info("Conta com ID: {} foi deletada com sucesso [requestId={}]", id, MDC.get("requestId"));
-        accountRepository.save(account);
     }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package br.com.apigestao.domain.account;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AccountSummaryDTO(
+        @Schema(description = "Referência das contas agrupadas (presente apenas no agrupamento por referência)",
+                example = "06-2025")
+        String reference,
+
+        @Schema(description = "Situação das contas agrupadas", example = "PENDENTE")
+        Situation situation,
+
+        @Schema(description = "Quantidade de contas", example = "12")
+        Long count,
+
+        @Schema(description = "Soma dos valores das contas", example = "3000.00")
+        BigDecimal total
+) {
+
+    public AccountSummaryDTO(Situation situation, Long count, BigDecimal total) {
+        this(null, situation, count, total);
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.apigestao.domain.account;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import java.util.Set;
+
+public record AccountTransitionDTO(
+        @Schema(description = "IDs das contas a alterar (não informar junto com customerId)", example = "[1, 2, 3]")
+        Set<Long> ids,
+
+        @Schema(description = "Altera todas as contas deste cliente (não informar junto com ids)", example = "1")
+        Long customerId,
+
+        @Schema(description = "Restringe o filtro por cliente a uma referência", example = "06-2025")
+        @Pattern(regexp = "^(0[1-9]|1[0-2])-[0-9]{4}$", message = "Formato inválido. Esperado MM-AAAA")
+        String reference,
+
+        @Schema(description = "Nova situação das contas", example = "PAGA")
+        @NotNull(message = "A situação da conta não pode ser nula")
+        @Pattern(regexp = "PENDENTE|PAGA|CANCELADA", flags = Pattern.Flag.CASE_INSENSITIVE,
+                message = "Situação inválida. Os valores válidos são: PENDENTE, PAGA, CANCELADA")
+        String situation
+) {}
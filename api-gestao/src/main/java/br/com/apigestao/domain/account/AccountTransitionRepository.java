@@ -0,0 +1,121 @@
+package br.com.apigestao.domain.account;
+
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/*
+    Transições de conta em um único comando: a regra "contas canceladas não podem ser alteradas"
+    fica no WHERE e o RETURNING devolve a linha atualizada, sem carregar a entidade (e o cliente)
+    antes nem gravar todas as colunas depois.
+*/
+@AllArgsConstructor
+@Repository
+public class AccountTransitionRepository {
+    static final int CHUNK_SIZE = 1_000;
+
+    private static final String TRANSITION_SQL =
+            "UPDATE tbl_contas SET situacao = ?, last_modified_date = ? " +
+                    "WHERE id = ANY (?) AND situacao <> 'CANCELADA'";
+
+    private static final String EXISTING_IDS_SQL = "SELECT id FROM tbl_contas WHERE id = ANY (?)";
+
+    private static final String NOT_CANCELLED = " WHERE id = ? AND situacao <> 'CANCELADA'";
+
+    private static final String RETURNING =
+            " RETURNING id, referencia, valor, customer_id, situacao, created_date, last_modified_date";
+
+    private static final RowMapper<AccountDTO> ACCOUNT_ROW_MAPPER = (rs, rowNum) -> new AccountDTO(
+            rs.getLong("id"),
+            rs.getString("referencia"),
+            rs.getBigDecimal("valor"),
+            rs.getLong("customer_id"),
+            rs.getString("situacao"),
+            rs.getObject("created_date", LocalDateTime.class),
+            rs.getObject("last_modified_date", LocalDateTime.class));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<AccountDTO> updateIfNotCancelled(Long id, Account changes) {
+        StringBuilder sql = new StringBuilder("UPDATE tbl_contas SET last_modified_date = ?");
+        List<Object> args = new ArrayList<>();
+        args.add(LocalDateTime.now());
+
+        if (changes.getReference() != null) {
+            sql.append(", referencia = ?, periodo = ?");
+            args.add(changes.getReference());
+            args.add(changes.getBillingPeriod());
+        }
+        if (changes.getValue() != null) {
+            sql.append(", valor = ?");
+            args.add(changes.getValue());
+        }
+        if (changes.getSituation() != null) {
+            sql.append(", situacao = ?");
+            args.add(changes.getSituation().name());
+        }
+        if (changes.getCustomer() != null) {
+            sql.append(", customer_id = ?");
+            args.add(changes.getCustomer().getId());
+        }
+        sql.append(NOT_CANCELLED).append(RETURNING);
+        args.add(id);
+
+        return jdbcTemplate.query(sql.toString(), ACCOUNT_ROW_MAPPER, args.toArray()).stream().findFirst();
+    }
+
+    /*
+        Transição em lote: um UPDATE por bloco de até CHUNK_SIZE IDs. Retorna as contas alteradas,
+        por ID, para os eventos do outbox; os demais IDs não existem ou estão cancelados.
+    */
+    public Map<Long, AccountDTO> transitionIfNotCancelled(List<Long> ids, Situation situation) {
+        Map<Long, AccountDTO> updatedAccounts = new HashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (List<Long> chunk : chunks(ids)) {
+            jdbcTemplate.query(connection -> {
+                var ps = connection.prepareStatement(TRANSITION_SQL + RETURNING);
+                ps.setString(1, situation.name());
+                ps.setObject(2, now);
+                ps.setArray(3, toArray(connection, chunk));
+                return ps;
+            }, ACCOUNT_ROW_MAPPER).forEach(account -> updatedAccounts.put(account.id(), account));
+        }
+        return updatedAccounts;
+    }
+
+    public Set<Long> findExistingIds(List<Long> ids) {
+        Set<Long> existingIds = new HashSet<>();
+        for (List<Long> chunk : chunks(ids)) {
+            existingIds.addAll(jdbcTemplate.query(connection -> {
+                var ps = connection.prepareStatement(EXISTING_IDS_SQL);
+                ps.setArray(1, toArray(connection, chunk));
+                return ps;
+            }, (rs, rowNum) -> rs.getLong(1)));
+        }
+        return existingIds;
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += CHUNK_SIZE) {
+            chunks.add(ids.subList(i, Math.min(i + CHUNK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+
+    private static Array toArray(Connection connection, List<Long> ids) throws SQLException {
+        return connection.createArrayOf("bigint", ids.toArray());
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.apigestao.domain.account;
+
+import br.com.apigestao.core.BaseException;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AccountTransitionResultDTO(
+        @Schema(description = "ID da conta", example = "1")
+        Long id,
+
+        @Schema(description = "Status HTTP equivalente ao resultado da conta", example = "200")
+        int status,
+
+        @Schema(description = "Motivo da rejeição da conta", example = "Contas canceladas não podem ser atualizadas")
+        String message
+) {
+
+    public static AccountTransitionResultDTO ofUpdated(Long id) {
+        return new AccountTransitionResultDTO(id, 200, null);
+    }
+
+    /* Mesmo status e mensagem que a exceção teria no endpoint de uma única conta */
+    public static AccountTransitionResultDTO ofRejected(Long id, BaseException reason) {
+        return new AccountTransitionResultDTO(id, reason.getHttpStatus().value(), reason.getMessage());
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.apigestao.domain.account;
+
+import br.com.apigestao.domain.customer.CustomerService;
+import br.com.apigestao.domain.exceptions.InvalidException;
+import br.com.apigestao.domain.exceptions.NotFoundException;
+import br.com.apigestao.domain.exceptions.UnauthorizedException;
+import br.com.apigestao.infrastructure.outbox.ChangeEventType;
+import br.com.apigestao.infrastructure.outbox.OutboxWriter;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+@AllArgsConstructor
+@Service
+public class AccountTransitionService {
+    static final int MAX_TRANSITION_SIZE = 100_000;
+
+    private final AccountRepository accountRepository;
+    private final AccountTransitionRepository accountTransitionRepository;
+    private final CustomerService customerService;
+    private final OutboxWriter outboxWriter;
+    private final Logger log = LoggerFactory.getLogger(AccountTransitionService.class);
+
+    /*
+        Mesma regra do PUT /contas/{id} (contas canceladas não podem ser alteradas), aplicada por
+        conjunto: o filtro "situacao <> 'CANCELADA'" fica no UPDATE e só os IDs não alterados são
+        consultados depois para diferenciar conta inexistente de conta cancelada. Cada conta alterada
+        gera um ACCOUNT_UPDATED, como no PUT.
+    */
+    @Transactional
+    public List<AccountTransitionResultDTO> transitionAccounts(AccountTransitionDTO transitionDTO) {
+        List<Long> ids = resolveIds(transitionDTO);
+        Situation situation = Situation.valueOf(transitionDTO.situation().toUpperCase());
+
+        Map<Long, AccountDTO> updatedAccounts = accountTransitionRepository.transitionIfNotCancelled(ids, situation);
+        List<Long> notUpdatedIds = ids.stream()
+                .filter(id -> !updatedAccounts.containsKey(id))
+                .toList();
+        Set<Long> existingIds = notUpdatedIds.isEmpty()
+                ? Set.of()
+                : accountTransitionRepository.findExistingIds(notUpdatedIds);
+
+        UnauthorizedException cancelled = new UnauthorizedException("Contas canceladas não podem ser atualizadas");
+        NotFoundException notFound = new NotFoundException("Conta não encontrada");
+        List<AccountTransitionResultDTO> results = new ArrayList<>(ids.size());
+        List<AccountDTO> changes = new ArrayList<>(updatedAccounts.size());
+        for (Long id : ids) {
+            AccountDTO updatedAccount = updatedAccounts.get(id);
+            if (updatedAccount != null) {
+                results.add(AccountTransitionResultDTO.ofUpdated(id));
+                changes.add(updatedAccount);
+            } else if (existingIds.contains(id)) {
+                results.add(AccountTransitionResultDTO.ofRejected(id, cancelled));
+            } else {
+                results.add(AccountTransitionResultDTO.ofRejected(id, notFound));
+            }
+        }
+
+        outboxWriter.appendAll(ChangeEventType.ACCOUNT_UPDATED, changes, AccountDTO::id, AccountDTO::customerId);
+        log.info("{} contas atualizadas em lote para {}, {} rejeitadas [requestId={}]", changes.size(),
+                situation, ids.size() - changes.size(), MDC.get("requestId"));
+        return results;
+    }
+
+    private List<Long> resolveIds(AccountTransitionDTO transitionDTO) {
+        boolean hasIds = transitionDTO.ids() != null && !transitionDTO.ids().isEmpty();
+        boolean hasCustomer = transitionDTO.customerId() != null;
+        if (hasIds == hasCustomer) {
+            log.error("Transição em lote sem critério único de seleção [requestId={}]", MDC.get("requestId"));
+            throw new InvalidException("Informe a lista de IDs ou o customerId, mas não ambos");
+        }
+        if (hasIds && transitionDTO.reference() != null) {
+            log.error("Referência informada sem customerId na transição em lote [requestId={}]", MDC.get("requestId"));
+            throw new InvalidException("A referência só pode ser usada junto com o customerId");
+        }
+
+        List<Long> ids;
+        if (hasIds) {
+            ids = transitionDTO.ids().stream()
+                    .filter(Objects::nonNull)
+                    .sorted()
+                    .toList();
+        } else {
+            customerService.findById(transitionDTO.customerId());
+            ids = transitionDTO.reference() == null
+                    ? accountRepository.findIdsByCustomerId(transitionDTO.customerId())
+                    : accountRepository.findIdsByCustomerIdAndBillingPeriod(transitionDTO.customerId(),
+                    Account.billingPeriodOf(transitionDTO.reference()));
+        }
+
+        if (ids.size() > MAX_TRANSITION_SIZE) {
+            log.error("Transição em lote excede o limite de {} contas [requestId={}]", MAX_TRANSITION_SIZE,
+                    MDC.get("requestId"));
+            throw new InvalidException("A transição em lote não pode alterar mais de " + MAX_TRANSITION_SIZE + " contas");
+        }
+        return ids;
+    }
+}
@@ -5,6 +5,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
@@ -20,8 +21,13 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "tbl_clientes")
+@Table(name = "tbl_clientes", uniqueConstraints = {
+        @UniqueConstraint(name = Customer.CPF_UNIQUE_CONSTRAINT, columnNames = "cpf"),
+        @UniqueConstraint(name = Customer.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email")
+})
 public class Customer extends BaseEntity {
+    public static final String CPF_UNIQUE_CONSTRAINT = "uk_tbl_clientes_cpf";
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_tbl_clientes_email";
 
     @NotBlank
     @Column(name = "nome", nullable = false)
@@ -29,7 +35,7 @@ public class Customer extends BaseEntity {
 
     @NotBlank
     @CPF
-    @Column(name = "cpf", unique = true, nullable = false)
+    @Column(name = "cpf", nullable = false)
     private String cpf;
     /*
        “Apesar de não estar especificado nas
@@ -37,7 +43,7 @@ public class Customer extends BaseEntity {
        para o campo de e-mail.”
     */
     @Email
-    @Column(unique = true)
+    @Column
     private String email;
 
     @Column(name = "telefone")
@@ -1,21 +1,35 @@
 package br.com.apigestao.domain.customer;
 
 import br.com.apigestao.core.ApplicationResponse;
+import br.com.apigestao.core.ChangeMarker;
+import br.com.apigestao.core.CursorPage;
+import br.com.apigestao.core.KeysetCursor;
+import br.com.apigestao.infrastructure.admission.AdmissionGroup;
+import br.com.apigestao.infrastructure.config.WebConfig;
+import br.com.apigestao.infrastructure.idempotency.Idempotent;
+import br.com.apigestao.infrastructure.sql.SqlStatementBudget;
 import br.com.apigestao.infrastructure.validations.CreateValidation;
 import br.com.apigestao.infrastructure.validations.UpdateValidation;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.AllArgsConstructor;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import java.net.URI;
 
@@ -27,6 +41,7 @@ import java.net.URI;
 public class CustomerController {
     private final CustomerMapper customerMapper;
     private final CustomerService customerService;
+    private final WebConfig webConfig;
 
     @Operation(
             summary = "Criar um novo cliente",
@@ -53,6 +68,11 @@ public class CustomerController {
                     examples = @ExampleObject(value = "{\"message\": \"E-mail do cliente já existe\"}")
             )
     })
+    @Parameter(in = ParameterIn.HEADER, name = "Idempotency-Key", required = false,
+            description = "Chave única da criação. Repetições com a mesma chave devolvem a primeira resposta " +
+                    "sem criar outro registro", schema = @Schema(type = "string", maxLength = 255))
+    @Idempotent
+    @AdmissionGroup(AdmissionGroup.WRITES)
     @PostMapping
     public ResponseEntity<Void> createCustomer(
             @Validated(CreateValidation.class)
@@ -73,21 +93,89 @@ public class CustomerController {
 
     @Operation(
             summary = "Buscar clientes com filtros e paginação",
-            description = "Busca clientes utilizando filtros opcionais como e-mail, CPF e número de telefone. Retorna " +
-                    "uma lista paginada de clientes."
+            description = "Busca clientes utilizando filtros opcionais como nome, e-mail, CPF e número de telefone. " +
+                    "O nome é buscado por prefixo ou trecho, sem diferenciar maiúsculas e acentos (mínimo de 3 " +
+                    "caracteres); sem o parâmetro sort, os resultados são ordenados por relevância. Retorna " +
+                    "uma lista paginada de clientes com ETag e Last-Modified; com If-None-Match ou " +
+                    "If-Modified-Since válidos, retorna 304 sem executar a busca."
     )
     @ApiResponse(responseCode = "200", description = "Clientes recuperados com sucesso", content = {})
+    @ApiResponse(responseCode = "304", description = "Os clientes não foram alterados", content = {})
     @ApiResponse(responseCode = "400", description = "Dados de filtro inválidos fornecidos", content = {})
+    @SqlStatementBudget(2)
+    @AdmissionGroup(AdmissionGroup.LISTINGS)
     @GetMapping
     public ResponseEntity<ApplicationResponse<Page<CustomerDTO>>> searchCustomers(
+            @RequestParam(value = "name", required = false) String name,
             @RequestParam(value = "email", required = false) String email,
             @RequestParam(value = "cpf", required = false) String cpf,
             @RequestParam(value = "phone", required = false) String phone,
             @RequestParam(value = "enabled", required = false) Boolean enabled,
-            Pageable pageable) {
+            Pageable pageable,
+            WebRequest webRequest) {
 
+        Specification<Customer> specification = buildSpecification(name, email, cpf, phone, enabled);
+        ChangeMarker changeMarker = customerService.findCustomersChangeMarker(specification);
+        if (webRequest.checkNotModified(changeMarker.eTag(), changeMarker.lastModifiedMillis())) {
+            return null;
+        }
+
+        Page<CustomerDTO> customerDTO = customerService.searchCustomer(specification, pageable, changeMarker);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ApplicationResponse.ofSuccess(customerDTO));
+    }
+
+    @Operation(
+            summary = "Percorrer clientes com paginação por cursor",
+            description = "Busca clientes com os mesmos filtros da listagem paginada, mas utilizando paginação por " +
+                    "cursor (keyset). A resposta não executa contagem total e o campo 'next' deve ser enviado no " +
+                    "parâmetro 'after' para obter a página seguinte. Ordenações suportadas: id, createdDate e " +
+                    "lastModifiedDate."
+    )
+    @ApiResponse(responseCode = "200", description = "Clientes recuperados com sucesso", content = {
+            @Content(
+                    mediaType = "application/json",
+                    examples = @ExampleObject(value = "{\"data\": {\"content\": [], \"size\": 20, " +
+                            "\"hasNext\": true, \"next\": \"MjA\"}}")
+            )
+    })
+    @ApiResponse(responseCode = "400", description = "Cursor, ordenação ou tamanho de página inválidos", content = {})
+    @SqlStatementBudget(1)
+    @AdmissionGroup(AdmissionGroup.LISTINGS)
+    @GetMapping("/scroll")
+    public ResponseEntity<ApplicationResponse<CursorPage<CustomerDTO>>> scrollCustomers(
+            @RequestParam(value = "name", required = false) String name,
+            @RequestParam(value = "email", required = false) String email,
+            @RequestParam(value = "cpf", required = false) String cpf,
+            @RequestParam(value = "phone", required = false) String phone,
+            @RequestParam(value = "enabled", required = false) Boolean enabled,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "size", defaultValue = "" + KeysetCursor.DEFAULT_SIZE) int size,
+            Sort sort) {
+
+        Sort keysetSort = KeysetCursor.resolveSort(sort);
+        KeysetScrollPosition position = KeysetCursor.decode(after, keysetSort);
+        Specification<Customer> specification = buildSpecification(name, email, cpf, phone, enabled);
+
+        Window<Customer> customers = customerService.scrollCustomers(specification, position, keysetSort,
+                KeysetCursor.resolveSize(size, webConfig.getMaxPageSize()));
+        Window<CustomerDTO> customerDTO = customerMapper.toDto(customers);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ApplicationResponse.ofSuccess(CursorPage.of(customerDTO, keysetSort)));
+    }
+
+    private Specification<Customer> buildSpecification(String name, String email, String cpf, String phone,
+                                                       Boolean enabled) {
         Specification<Customer> specification = (root, query, criteriaBuilder) -> null;
 
+        if (name != null) {
+            specification = specification.and(CustomerSpecifications.nameMatches(name));
+        }
+
         if (email != null) {
             specification = specification.and((root, query, criteriaBuilder) ->
                     criteriaBuilder.equal(root.get("email"), email));
@@ -107,13 +195,7 @@ public class CustomerController {
             specification = specification.and((root, query, criteriaBuilder) ->
                     criteriaBuilder.equal(root.get("enabled"), enabled));
         }
-
-        Page<Customer> customer = customerService.searchCustomer(specification, pageable);
-        Page<CustomerDTO> customerDTO = customerMapper.toDto(customer);
-
-        return ResponseEntity
-                .status(HttpStatus.OK)
-                .body(ApplicationResponse.ofSuccess(customerDTO));
+        return specification;
     }
 
     @Operation(
@@ -143,6 +225,8 @@ public class CustomerController {
                     examples = @ExampleObject(value = "{\"message\": \"E-mail do cliente já existe\"}")
             )
     })
+    @SqlStatementBudget(6)
+    @AdmissionGroup(AdmissionGroup.WRITES)
     @PutMapping("/{id}")
     public ResponseEntity<ApplicationResponse<CustomerDTO>> updateCustomer(
             @PathVariable Long id,
@@ -162,6 +246,7 @@ public class CustomerController {
     )
     @ApiResponse(responseCode = "204", description = "Cliente deletado com sucesso", content = {})
     @ApiResponse(responseCode = "404", description = "Cliente não encontrado", content = {})
+    @AdmissionGroup(AdmissionGroup.WRITES)
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteCustomer(@PathVariable Long id) {
         customerService.deleteCustomer(id);
@@ -176,6 +261,7 @@ public class CustomerController {
     )
     @ApiResponse(responseCode = "204", description = "Cliente desabilitado com sucesso", content = {})
     @ApiResponse(responseCode = "404", description = "Cliente não encontrado", content = {})
+    @AdmissionGroup(AdmissionGroup.WRITES)
     @PatchMapping("/{id}")
     public ResponseEntity<Void> disableCustomer(@PathVariable Long id) {
         customerService.disableCustomer(id);
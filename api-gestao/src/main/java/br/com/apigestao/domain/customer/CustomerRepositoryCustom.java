@@ -0,0 +1,15 @@
+package br.com.apigestao.domain.customer;
+
+import br.com.apigestao.core.ChangeMarker;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import java.util.function.LongSupplier;
+
+public interface CustomerRepositoryCustom {
+    Page<CustomerDTO> findAllAsDto(Specification<Customer> specification, Pageable pageable);
+
+    Page<CustomerDTO> findAllAsDto(Specification<Customer> specification, Pageable pageable, LongSupplier total);
+
+    ChangeMarker findChangeMarker(Specification<Customer> specification);
+}
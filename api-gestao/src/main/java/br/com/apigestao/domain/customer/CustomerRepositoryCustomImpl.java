@@ -0,0 +1,101 @@
+package br.com.apigestao.domain.customer;
+
+import br.com.apigestao.core.ChangeMarker;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/*
+    Consulta de listagem que seleciona apenas as colunas do CustomerDTO, sem instanciar entidades
+    gerenciadas. Os filtros continuam sendo montados como Specification no controller.
+*/
+public class CustomerRepositoryCustomImpl implements CustomerRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<CustomerDTO> findAllAsDto(Specification<Customer> specification, Pageable pageable) {
+        return findAllAsDto(specification, pageable, () -> count(specification));
+    }
+
+    @Override
+    public Page<CustomerDTO> findAllAsDto(Specification<Customer> specification, Pageable pageable,
+                                          LongSupplier total) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CustomerDTO> query = criteriaBuilder.createQuery(CustomerDTO.class);
+        Root<Customer> root = query.from(Customer.class);
+
+        query.select(criteriaBuilder.construct(CustomerDTO.class,
+                root.get("id"),
+                root.get("name"),
+                root.get("cpf"),
+                root.get("phone"),
+                root.get("email"),
+                root.get("enabled"),
+                root.get("createdDate"),
+                root.get("lastModifiedDate")));
+        applySpecification(specification, root, query, criteriaBuilder);
+        /* Sem sort explícito, mantém a ordenação definida pela Specification (ex.: relevância do nome) */
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+        }
+
+        TypedQuery<CustomerDTO> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<CustomerDTO> content = typedQuery.getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, total);
+    }
+
+    @Override
+    public ChangeMarker findChangeMarker(Specification<Customer> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ChangeMarker> query = criteriaBuilder.createQuery(ChangeMarker.class);
+        Root<Customer> root = query.from(Customer.class);
+
+        query.select(criteriaBuilder.construct(ChangeMarker.class,
+                criteriaBuilder.count(root),
+                criteriaBuilder.greatest(root.<LocalDateTime>get("lastModifiedDate"))));
+        applySpecification(specification, root, query, criteriaBuilder);
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private long count(Specification<Customer> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Customer> root = query.from(Customer.class);
+
+        query.select(criteriaBuilder.count(root));
+        applySpecification(specification, root, query, criteriaBuilder);
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static void applySpecification(Specification<Customer> specification, Root<Customer> root,
+                                           CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        if (specification == null) {
+            return;
+        }
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
@@ -1,64 +1,127 @@
 package br.com.apigestao.domain.customer;
 
+import br.com.apigestao.core.ChangeMarker;
 import br.com.apigestao.domain.exceptions.ConflictException;
 import br.com.apigestao.domain.exceptions.InvalidException;
 import br.com.apigestao.domain.exceptions.NotFoundException;
+import br.com.apigestao.infrastructure.config.CacheConfig;
+import br.com.apigestao.infrastructure.outbox.ChangeEventType;
+import br.com.apigestao.infrastructure.outbox.OutboxWriter;
+import br.com.apigestao.infrastructure.routing.PrimaryStickiness;
+import org.hibernate.exception.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Set;
 import java.util.function.Consumer;
 
+@Timed(value = "apigestao.service", description = "Tempo de execução dos métodos de serviço")
 @AllArgsConstructor
 @Service
 public class CustomerService {
     private final CustomerRepository customerRepository;
+    private final CustomerMapper customerMapper;
+    private final OutboxWriter outboxWriter;
     private final Logger log = LoggerFactory.getLogger(CustomerService.class);
 
+    /*
+        A unicidade de CPF e e-mail é garantida pelas constraints do banco em um único INSERT,
+        sem consultas prévias de existência. A constraint violada define a mensagem de conflito.
+    */
     @Transactional()
     public Customer createCustomer(Customer customer) {
-        validateCreate(customer);
-        Customer savedCustomer = customerRepository.save(customer);
+        Customer savedCustomer;
+        try {
+            savedCustomer = customerRepository.saveAndFlush(customer);
+        } catch (DataIntegrityViolationException e) {
+            throw toConflictException(e);
+        }
+        outboxWriter.append(ChangeEventType.CUSTOMER_CREATED, savedCustomer.getId(), savedCustomer.getId(),
+                () -> customerMapper.toDto(savedCustomer));
         log.info("Cliente com ID: {} salvo com sucesso [requestId={}]", customer.getId(), MDC.get("requestId"));
         return savedCustomer;
     }
 
-    private void validateCreate(Customer customer) {
-        if (customerRepository.existsByCpf(customer.getCpf())) {
+    private RuntimeException toConflictException(DataIntegrityViolationException e) {
+        String constraintName = e.getCause() instanceof ConstraintViolationException violation &&
+                violation.getConstraintName() != null
+                ? violation.getConstraintName().toLowerCase(Locale.ROOT)
+                : "";
+
+        if (constraintName.endsWith(Customer.CPF_UNIQUE_CONSTRAINT)) {
             log.error("CPF já existe no sistema [requestId={}]", MDC.get("requestId"));
-            throw new ConflictException("O CPF do cliente já existe");
+            return new ConflictException("O CPF do cliente já existe");
         }
 
-        if (customerRepository.existsByEmail(customer.getEmail())) {
+        if (constraintName.endsWith(Customer.EMAIL_UNIQUE_CONSTRAINT)) {
             log.error("Email já existe no sistema [requestId={}]", MDC.get("requestId"));
-            throw new ConflictException("O email do cliente já existe");
+            return new ConflictException("O email do cliente já existe");
         }
+        return e;
     }
 
+    /*
+        Chamadas internas (update, delete, disable) não passam pelo proxy e sempre leem do banco.
+        Um cache miss lê do primário: uma réplica ainda atrasada em relação a uma atualização
+        recente gravaria a versão antiga no cache até expireAfterWrite.
+    */
+    @Cacheable(cacheNames = CacheConfig.CUSTOMERS, key = "#id")
     @Transactional(readOnly = true)
     public Customer findById(Long id) {
-        return customerRepository.findById(id).orElseThrow(() -> {
+        return PrimaryStickiness.onPrimary(() -> customerRepository.findById(id)).orElseThrow(() -> {
             log.error("Cliente não encontrado [requestId={}]", MDC.get("requestId"));
             return new NotFoundException("Cliente não encontrado");
         });
     }
 
     @Transactional(readOnly = true)
-    public Page<Customer> searchCustomer(Specification<Customer> specification, Pageable pageable) {
-        return customerRepository.findAll(specification, pageable);
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return customerRepository.findExistingIds(ids);
+    }
+
+    @Transactional(readOnly = true)
+    public ChangeMarker findCustomersChangeMarker(Specification<Customer> specification) {
+        return customerRepository.findChangeMarker(specification);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<CustomerDTO> searchCustomer(Specification<Customer> specification, Pageable pageable,
+                                            ChangeMarker changeMarker) {
+        return customerRepository.findAllAsDto(specification, pageable, changeMarker::count);
     }
 
+    @Transactional(readOnly = true)
+    public Window<Customer> scrollCustomers(Specification<Customer> specification, KeysetScrollPosition position,
+                                            Sort sort, int limit) {
+        return customerRepository.findBy(specification, query -> query.sortBy(sort).limit(limit).scroll(position));
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.CUSTOMERS, key = "#id")
     @Transactional
     public Customer updateCustomer(Long id, Consumer<Customer> mergeNonNull) {
         Customer customer = findById(id);
         validateUpdate(customer, mergeNonNull);
         mergeNonNull.accept(customer);
         Customer updatedCustomer = customerRepository.save(customer);
+        outboxWriter.append(ChangeEventType.CUSTOMER_UPDATED, id, id, () -> customerMapper.toDto(updatedCustomer));
         log.info("Cliente com ID: {} atualizado com sucesso [requestId={}]", customer.getId(), MDC.get("requestId"));
         return updatedCustomer;
     }
@@ -85,21 +148,25 @@ public class CustomerService {
         }
     }
 
+    @CacheEvict(cacheNames = CacheConfig.CUSTOMERS, key = "#id")
     @Transactional
     public void deleteCustomer(Long id) {
         Customer customer = findById(id);
-        log.info("Cliente com ID: {} deletado com sucesso [requestId={}]", id, MDC.get("requestId"));
         customerRepository.delete(customer);
+        outboxWriter.append(ChangeEventType.CUSTOMER_DELETED, id, id);
+        log.info("Cliente com ID: {} deletado com sucesso [requestId={}]", id, MDC.get("requestId"));
     }
 
     // Aqui inclui o disableCustomer() para soft delete
+    @CacheEvict(cacheNames = CacheConfig.CUSTOMERS, key = "#id")
     @Transactional
     public void disableCustomer(Long id) {
         Customer customer = findById(id);
         validateDisable(customer);
         customer.setEnabled(false);
+        Customer disabledCustomer = customerRepository.save(customer);
+        outboxWriter.append(ChangeEventType.CUSTOMER_DISABLED, id, id, () -> customerMapper.toDto(disabledCustomer));
         log.info("Cliente com ID: {} foi desativado com sucesso [requestId={}]", id, MDC.get("requestId"));
-        customerRepository.save(customer);
     }
 
     private void validateDisable(Customer c) {
@@ -0,0 +1,58 @@
+package br.com.apigestao.domain.customer;
+
+import br.com.apigestao.domain.exceptions.InvalidException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import java.text.Normalizer;
+import java.util.Locale;
+
+public final class CustomerSpecifications {
+    static final int MIN_NAME_LENGTH = 3;
+    private static final char LIKE_ESCAPE = '\\';
+
+    private CustomerSpecifications() {
+    }
+
+    /*
+        Nome por prefixo ou trecho, sem diferenciar maiúsculas e acentos. A expressão
+        f_unaccent(lower(nome)) é a mesma do índice de trigramas (V6). Na listagem, quando
+        nenhuma ordenação é informada, os prefixos vêm primeiro e depois a similaridade;
+        consultas de contagem e de marcador de alteração não recebem ordenação.
+    */
+    public static Specification<Customer> nameMatches(String name) {
+        String term = normalize(name);
+        if (term.length() < MIN_NAME_LENGTH) {
+            throw new InvalidException("O nome deve ter pelo menos " + MIN_NAME_LENGTH + " caracteres");
+        }
+        String escapedTerm = escapeLike(term);
+
+        return (root, query, criteriaBuilder) -> {
+            Expression<String> normalizedName = normalizedName(root, criteriaBuilder);
+            if (CustomerDTO.class.equals(query.getResultType())) {
+                query.orderBy(
+                        criteriaBuilder.asc(criteriaBuilder.selectCase()
+                                .when(criteriaBuilder.like(normalizedName, escapedTerm + "%", LIKE_ESCAPE), 0)
+                                .otherwise(1)),
+                        criteriaBuilder.desc(criteriaBuilder.function("similarity", Double.class,
+                                normalizedName, criteriaBuilder.literal(term))),
+                        criteriaBuilder.asc(root.get("id")));
+            }
+            return criteriaBuilder.like(normalizedName, "%" + escapedTerm + "%", LIKE_ESCAPE);
+        };
+    }
+
+    static String normalize(String name) {
+        String decomposed = Normalizer.normalize(name == null ? "" : name.strip(), Normalizer.Form.NFD);
+        return decomposed.replaceAll("\\p{M}", "").toLowerCase(Locale.ROOT);
+    }
+
+    static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static Expression<String> normalizedName(Root<Customer> root, CriteriaBuilder criteriaBuilder) {
+        return criteriaBuilder.function("f_unaccent", String.class, criteriaBuilder.lower(root.get("name")));
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.apigestao.domain.exceptions;
+
+import br.com.apigestao.core.BaseException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class ServiceUnavailableException extends BaseException {
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message, HttpStatus.SERVICE_UNAVAILABLE);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
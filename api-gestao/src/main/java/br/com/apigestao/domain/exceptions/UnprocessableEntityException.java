@@ -0,0 +1,10 @@
+package br.com.apigestao.domain.exceptions;
+
+import br.com.apigestao.core.BaseException;
+import org.springframework.http.HttpStatus;
+
+public class UnprocessableEntityException extends BaseException {
+    public UnprocessableEntityException(String message) {
+        super(message, HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+}
@@ -0,0 +1,128 @@
+package br.com.apigestao.infrastructure.admission;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+    Limite de concorrência adaptativo por gradiente de latência: a latência recente (média curta)
+    é comparada com a de referência (média longa). Enquanto a recente fica dentro da tolerância o
+    limite cresce aos poucos; quando passa dela, o limite cai proporcionalmente (no máximo pela
+    metade por amostra). Requisições acima do limite aguardam em uma fila limitada por tamanho e
+    por tempo; fila cheia ou espera esgotada resultam em rejeição imediata.
+*/
+public class AdaptiveConcurrencyLimiter {
+    private static final double SHORT_RTT_WEIGHT = 0.1;
+    private static final double LONG_RTT_WEIGHT = 1.0 / 600;
+    private static final double SMOOTHING = 0.2;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final String name;
+    private final AdmissionProperties.Group config;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private int waiting;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(String name, AdmissionProperties.Group config) {
+        this.name = name;
+        this.config = config;
+        this.limit = config.initialLimit();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public AdmissionProperties.Group getConfig() {
+        return config;
+    }
+
+    public boolean tryAcquire() {
+        lock.lock();
+        try {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                return true;
+            }
+            if (waiting >= config.queueSize()) {
+                return false;
+            }
+            waiting++;
+            try {
+                long remainingNanos = config.maxWait().toNanos();
+                while (inFlight >= (int) limit) {
+                    if (remainingNanos <= 0) {
+                        return false;
+                    }
+                    remainingNanos = available.awaitNanos(remainingNanos);
+                }
+                inFlight++;
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(long latencyNanos) {
+        lock.lock();
+        try {
+            inFlight--;
+            update(latencyNanos);
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void update(long latencyNanos) {
+        if (longRttNanos == 0) {
+            shortRttNanos = latencyNanos;
+            longRttNanos = latencyNanos;
+            return;
+        }
+        shortRttNanos += (latencyNanos - shortRttNanos) * SHORT_RTT_WEIGHT;
+        longRttNanos += (latencyNanos - longRttNanos) * LONG_RTT_WEIGHT;
+        /* Depois de um período de sobrecarga a referência volta a cair mais rápido */
+        if (longRttNanos > 2 * shortRttNanos) {
+            longRttNanos *= 0.95;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT,
+                Math.min(1.0, config.latencyTolerance() * longRttNanos / shortRttNanos));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        /* Sem uso de pelo menos metade das vagas, não há evidência para aumentar o limite */
+        if (newLimit > limit && inFlight < limit / 2) {
+            return;
+        }
+        limit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        limit = Math.max(config.minLimit(), Math.min(config.maxLimit(), limit));
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.apigestao.infrastructure.admission;
+
+import br.com.apigestao.domain.exceptions.ServiceUnavailableException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import java.util.Map;
+
+/*
+    Reserva uma vaga no limite do grupo do endpoint antes de executar o handler e a devolve ao
+    final, informando a latência observada. Sem vaga, a requisição é rejeitada com 503 e
+    Retry-After pelo GlobalExceptionHandler, sem ocupar conexão do banco.
+*/
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+    private static final String LIMITER_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".limiter";
+    private static final String START_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".start";
+
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters;
+    private final Logger log = LoggerFactory.getLogger(AdmissionControlInterceptor.class);
+
+    public AdmissionControlInterceptor(Map<String, AdaptiveConcurrencyLimiter> limiters) {
+        this.limiters = limiters;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        AdmissionGroup group = handlerMethod.getMethodAnnotation(AdmissionGroup.class);
+        AdaptiveConcurrencyLimiter limiter = group == null ? null : limiters.get(group.value());
+        if (limiter == null) {
+            return true;
+        }
+
+        if (!limiter.tryAcquire()) {
+            log.warn("Requisição rejeitada por sobrecarga no grupo {} (limite {}) [requestId={}]",
+                    limiter.getName(), limiter.getLimit(), MDC.get("requestId"));
+            throw new ServiceUnavailableException("Serviço sobrecarregado. Tente novamente em instantes",
+                    Math.max(1, limiter.getConfig().retryAfter().toSeconds()));
+        }
+        request.setAttribute(LIMITER_ATTRIBUTE, limiter);
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(LIMITER_ATTRIBUTE) instanceof AdaptiveConcurrencyLimiter limiter) {
+            request.removeAttribute(LIMITER_ATTRIBUTE);
+            limiter.release(System.nanoTime() - (long) request.getAttribute(START_ATTRIBUTE));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.apigestao.infrastructure.admission;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+    Grupo de rotas que compartilha um limite de concorrência (api-gestao.admission.groups.<grupo>.*).
+    Endpoints sem a anotação não passam pelo controle de admissão.
+*/
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AdmissionGroup {
+    String LISTINGS = "listings";
+    String WRITES = "writes";
+    String EXPORTS = "exports";
+
+    String value();
+}
@@ -0,0 +1,38 @@
+package br.com.apigestao.infrastructure.admission;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+import java.util.Map;
+
+@ConfigurationProperties("api-gestao.admission")
+public record AdmissionProperties(boolean enabled, Map<String, Group> groups) {
+
+    public AdmissionProperties {
+        groups = groups == null ? Map.of() : groups;
+    }
+
+    /*
+        initialLimit/minLimit/maxLimit: requisições simultâneas do grupo; o limite se ajusta entre
+        os extremos conforme a latência observada. queueSize/maxWait: requisições que aguardam uma
+        vaga e por quanto tempo antes do 503. latencyTolerance: quanto a latência recente pode
+        superar a de referência antes de o limite começar a cair.
+    */
+    public record Group(int initialLimit,
+                        int minLimit,
+                        int maxLimit,
+                        int queueSize,
+                        Duration maxWait,
+                        Duration retryAfter,
+                        double latencyTolerance) {
+
+        public Group {
+            minLimit = Math.max(1, minLimit);
+            maxLimit = Math.max(minLimit, maxLimit);
+            initialLimit = Math.min(Math.max(initialLimit, minLimit), maxLimit);
+            queueSize = Math.max(0, queueSize);
+            maxWait = maxWait == null ? Duration.ZERO : maxWait;
+            retryAfter = retryAfter == null ? Duration.ofSeconds(1) : retryAfter;
+            latencyTolerance = latencyTolerance < 1.0 ? 2.0 : latencyTolerance;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.apigestao.infrastructure.config;
+
+import br.com.apigestao.infrastructure.admission.AdaptiveConcurrencyLimiter;
+import br.com.apigestao.infrastructure.admission.AdmissionControlInterceptor;
+import br.com.apigestao.infrastructure.admission.AdmissionProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties(AdmissionProperties.class)
+@ConditionalOnProperty(name = "api-gestao.admission.enabled", havingValue = "true")
+public class AdmissionControlConfig implements WebMvcConfigurer {
+    static final String LIMIT_METRIC = "apigestao.admission.limit";
+    static final String IN_FLIGHT_METRIC = "apigestao.admission.in.flight";
+
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new HashMap<>();
+
+    public AdmissionControlConfig(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        properties.groups().forEach((name, group) -> {
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(name, group);
+            limiters.put(name, limiter);
+            Gauge.builder(LIMIT_METRIC, limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .tag("group", name)
+                    .register(meterRegistry);
+            Gauge.builder(IN_FLIGHT_METRIC, limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .tag("group", name)
+                    .register(meterRegistry);
+        });
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AdmissionControlInterceptor(Map.copyOf(limiters)))
+                .addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.apigestao.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+    public static final String CUSTOMERS = "customers";
+
+    /*
+        As invalidações só são aplicadas após o commit da transação, evitando que uma leitura
+        concorrente recoloque no cache o valor antigo antes da atualização ser persistida.
+        Hits, misses e evictions ficam disponíveis em /actuator/metrics/cache.gets e cache.evictions.
+    */
+    @Bean
+    public CacheManager cacheManager(@Value("${api-gestao.cache.customers.spec}") String customersSpec) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager(CUSTOMERS);
+        caffeineCacheManager.setCacheSpecification(customersSpec);
+        caffeineCacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
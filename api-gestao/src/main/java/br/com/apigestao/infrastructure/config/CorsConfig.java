@@ -22,12 +22,14 @@ public class CorsConfig {
         corsConfiguration.setAllowCredentials(true);
         corsConfiguration.addAllowedOriginPattern("*");
         corsConfiguration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-        corsConfiguration.setAllowedHeaders(Arrays.asList("Authorization", "Cache-Control", "Content-Type"));
+        corsConfiguration.setAllowedHeaders(Arrays.asList("Authorization", "Cache-Control", "Content-Type",
+                "If-None-Match", "If-Modified-Since"));
+        corsConfiguration.setExposedHeaders(Arrays.asList("ETag", "Last-Modified"));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", corsConfiguration);
 
-        log.info("CORS Configurado com sucesso. Permitidos: Origem - *, Métodos - GET, POST, PUT, DELETE, OPTIONS, Headers - Authorization, Cache-Control, Content-Type");
+        log.info("CORS Configurado com sucesso. Permitidos: Origem - *, Métodos - GET, POST, PUT, DELETE, OPTIONS, Headers - Authorization, Cache-Control, Content-Type, If-None-Match, If-Modified-Since");
 
         return source;
     }
@@ -1,8 +1,11 @@
 package br.com.apigestao.infrastructure.config;
 
 import br.com.apigestao.core.BaseException;
+import br.com.apigestao.domain.exceptions.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -15,12 +18,33 @@ import java.util.Map;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
+    public static final String EXCEPTIONS_METRIC = "apigestao.exceptions";
+
+    private final MeterRegistry meterRegistry;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
 
     @ExceptionHandler(BaseException.class)
     public ResponseEntity<ErrorResponse> handleBaseException(BaseException ex) {
         HttpStatus status = ex.getHttpStatus();
+        countException(ex, status);
+
+        return ResponseEntity.status(status)
+                .body(new ErrorResponse(
+                        String.valueOf(status.value()),
+                        ex.getMessage()
+                ));
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        HttpStatus status = ex.getHttpStatus();
+        countException(ex, status);
 
         return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
                 .body(new ErrorResponse(
                         String.valueOf(status.value()),
                         ex.getMessage()
@@ -46,6 +70,12 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse("500", "An unexpected error occurred."));
     }
 
+    private void countException(BaseException ex, HttpStatus status) {
+        meterRegistry.counter(EXCEPTIONS_METRIC,
+                "exception", ex.getClass().getSimpleName(),
+                "status", String.valueOf(status.value())).increment();
+    }
+
     @Getter
     @AllArgsConstructor
     static class ErrorResponse {
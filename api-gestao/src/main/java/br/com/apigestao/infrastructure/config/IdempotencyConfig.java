@@ -0,0 +1,67 @@
+package br.com.apigestao.infrastructure.config;
+
+import br.com.apigestao.infrastructure.idempotency.IdempotencyFilter;
+import br.com.apigestao.infrastructure.idempotency.IdempotencyInterceptor;
+import br.com.apigestao.infrastructure.idempotency.IdempotencyStore;
+import br.com.apigestao.infrastructure.idempotency.InMemoryIdempotencyStore;
+import br.com.apigestao.infrastructure.idempotency.JdbcIdempotencyStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "api-gestao.idempotency.enabled", havingValue = "true")
+public class IdempotencyConfig implements WebMvcConfigurer {
+    private final IdempotencyStore idempotencyStore;
+    private final Duration waitTimeout;
+
+    public IdempotencyConfig(IdempotencyStore idempotencyStore,
+                             @Value("${api-gestao.idempotency.wait-timeout:10s}") Duration waitTimeout) {
+        this.idempotencyStore = idempotencyStore;
+        this.waitTimeout = waitTimeout;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new IdempotencyInterceptor(idempotencyStore, waitTimeout))
+                .addPathPatterns("/api/**")
+                .order(Ordered.HIGHEST_PRECEDENCE);
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter() {
+        FilterRegistrationBean<IdempotencyFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new IdempotencyFilter());
+        registrationBean.addUrlPatterns("/api/*");
+        return registrationBean;
+    }
+
+    @Configuration
+    static class StoreConfig {
+
+        @Bean
+        @ConditionalOnProperty(name = "api-gestao.idempotency.store", havingValue = "memory", matchIfMissing = true)
+        public IdempotencyStore inMemoryIdempotencyStore(
+                @Value("${api-gestao.idempotency.max-entries:100000}") long maxEntries,
+                @Value("${api-gestao.idempotency.ttl:24h}") Duration ttl) {
+            return new InMemoryIdempotencyStore(maxEntries, ttl);
+        }
+
+        @Bean
+        @ConditionalOnProperty(name = "api-gestao.idempotency.store", havingValue = "jdbc")
+        public IdempotencyStore jdbcIdempotencyStore(
+                JdbcTemplate jdbcTemplate,
+                @Value("${api-gestao.idempotency.ttl:24h}") Duration ttl,
+                @Value("${api-gestao.idempotency.lease:30s}") Duration lease,
+                @Value("${api-gestao.idempotency.poll-interval:50ms}") Duration pollInterval) {
+            return new JdbcIdempotencyStore(jdbcTemplate, ttl, lease, pollInterval);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package br.com.apigestao.infrastructure.config;
+
+import br.com.apigestao.core.ApplicationResponse;
+import br.com.apigestao.core.BaseEntity;
+import br.com.apigestao.core.ChangeMarker;
+import br.com.apigestao.core.CursorPage;
+import br.com.apigestao.core.ErrorMessage;
+import br.com.apigestao.domain.account.Account;
+import br.com.apigestao.domain.account.AccountBatchResultDTO;
+import br.com.apigestao.domain.account.AccountDTO;
+import br.com.apigestao.domain.account.AccountExportRow;
+import br.com.apigestao.domain.account.AccountSummaryDTO;
+import br.com.apigestao.domain.account.AccountTransitionDTO;
+import br.com.apigestao.domain.account.AccountTransitionResultDTO;
+import br.com.apigestao.domain.customer.Customer;
+import br.com.apigestao.domain.customer.CustomerDTO;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+/*
+    Hints do native-image (./mvnw -Pnative package) para o que o processamento AOT do Spring não
+    descobre sozinho: DTOs criados por construtor em JPQL e serializados pelo Jackson em tipos
+    genéricos, os proxies JDK do datasource-proxy e os plugins e arquivos YAML do Log4j2.
+*/
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.ApiGestaoRuntimeHints.class)
+public class NativeHintsConfig {
+
+    static class ApiGestaoRuntimeHints implements RuntimeHintsRegistrar {
+        private static final List<String> MAPPERS = List.of(
+                "br.com.apigestao.domain.account.AccountMapperImpl",
+                "br.com.apigestao.domain.customer.CustomerMapperImpl");
+
+        private static final List<String> LOG4J2_PLUGINS = List.of(
+                "org.apache.logging.log4j.core.config.yaml.YamlConfigurationFactory",
+                "org.apache.logging.log4j.core.config.AppendersPlugin",
+                "org.apache.logging.log4j.core.config.LoggersPlugin",
+                "org.apache.logging.log4j.core.config.LoggerConfig",
+                "org.apache.logging.log4j.core.config.LoggerConfig$Builder",
+                "org.apache.logging.log4j.core.config.LoggerConfig$RootLogger",
+                "org.apache.logging.log4j.core.config.LoggerConfig$RootLogger$Builder",
+                "org.apache.logging.log4j.core.async.AsyncLoggerConfig",
+                "org.apache.logging.log4j.core.async.AsyncLoggerConfig$Builder",
+                "org.apache.logging.log4j.core.async.AsyncLoggerConfig$RootLogger",
+                "org.apache.logging.log4j.core.async.AsyncLoggerConfig$RootLogger$Builder",
+                "org.apache.logging.log4j.core.config.AppenderRef",
+                "org.apache.logging.log4j.core.appender.ConsoleAppender",
+                "org.apache.logging.log4j.core.appender.ConsoleAppender$Builder",
+                "org.apache.logging.log4j.core.appender.RollingFileAppender",
+                "org.apache.logging.log4j.core.appender.RollingFileAppender$Builder",
+                "org.apache.logging.log4j.core.appender.RollingRandomAccessFileAppender",
+                "org.apache.logging.log4j.core.appender.RollingRandomAccessFileAppender$Builder",
+                "org.apache.logging.log4j.core.appender.rolling.CompositeTriggeringPolicy",
+                "org.apache.logging.log4j.core.appender.rolling.TimeBasedTriggeringPolicy",
+                "org.apache.logging.log4j.core.appender.rolling.TimeBasedTriggeringPolicy$Builder",
+                "org.apache.logging.log4j.core.layout.PatternLayout",
+                "org.apache.logging.log4j.core.layout.PatternLayout$Builder",
+                "org.apache.logging.log4j.core.filter.DynamicThresholdFilter",
+                "org.apache.logging.log4j.core.util.KeyValuePair",
+                "org.apache.logging.log4j.core.util.KeyValuePair$Builder",
+                "org.apache.logging.log4j.layout.template.json.JsonTemplateLayout",
+                "org.apache.logging.log4j.layout.template.json.JsonTemplateLayout$Builder");
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (Class<?> entity : List.of(BaseEntity.class, Customer.class, Account.class)) {
+                hints.reflection().registerType(entity, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+
+            new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                    ApplicationResponse.class, ErrorMessage.class, CursorPage.class, ChangeMarker.class,
+                    AccountDTO.class, AccountSummaryDTO.class, AccountBatchResultDTO.class, AccountExportRow.class,
+                    AccountTransitionDTO.class, AccountTransitionResultDTO.class, CustomerDTO.class,
+                    GlobalExceptionHandler.ErrorResponse.class);
+
+            for (String mapper : MAPPERS) {
+                hints.reflection().registerTypeIfPresent(classLoader, mapper,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+
+            /* JdkJdbcProxyFactory, usado pelo SqlStatisticsConfig */
+            for (Class<?> jdbcType : List.of(Connection.class, Statement.class, PreparedStatement.class,
+                    CallableStatement.class, ResultSet.class)) {
+                hints.proxies().registerJdkProxy(ProxyJdbcObject.class, jdbcType);
+            }
+
+            hints.resources()
+                    .registerPattern("log4j2-spring.yml")
+                    .registerPattern("log4j2-async.yml")
+                    .registerPattern("EcsLayout.json")
+                    .registerPattern("META-INF/org/apache/logging/log4j/core/config/plugins/Log4j2Plugins.dat");
+            for (String plugin : LOG4J2_PLUGINS) {
+                hints.reflection().registerTypeIfPresent(classLoader, plugin,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS,
+                        MemberCategory.DECLARED_FIELDS);
+            }
+            hints.reflection().registerType(TypeReference.of("com.fasterxml.jackson.dataformat.yaml.YAMLFactory"),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.apigestao.infrastructure.config;
+
+import br.com.apigestao.infrastructure.outbox.InMemoryOutboxSink;
+import br.com.apigestao.infrastructure.outbox.LocalFileOutboxSink;
+import br.com.apigestao.infrastructure.outbox.OutboxRelay;
+import br.com.apigestao.infrastructure.outbox.OutboxSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/*
+    O relay usa o OutboxSink do contexto: um bean próprio (por exemplo, para um broker) substitui
+    os sinks de arquivo e de memória definidos aqui.
+*/
+@Configuration
+@ConditionalOnProperty(name = "api-gestao.outbox.relay.enabled", havingValue = "true")
+public class OutboxConfig {
+    static final String PUBLISHED_OFFSET_METRIC = "apigestao.outbox.published.offset";
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxSink.class)
+    @ConditionalOnProperty(name = "api-gestao.outbox.sink", havingValue = "file", matchIfMissing = true)
+    public OutboxSink localFileOutboxSink(@Value("${api-gestao.outbox.file:outbox/eventos.jsonl}") Path file,
+                                          ObjectMapper objectMapper) {
+        return new LocalFileOutboxSink(file, objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxSink.class)
+    @ConditionalOnProperty(name = "api-gestao.outbox.sink", havingValue = "memory")
+    public OutboxSink inMemoryOutboxSink(@Value("${api-gestao.outbox.memory-capacity:10000}") int capacity) {
+        return new InMemoryOutboxSink(capacity);
+    }
+
+    @Bean
+    public OutboxRelay outboxRelay(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                   OutboxSink outboxSink, MeterRegistry meterRegistry,
+                                   @Value("${api-gestao.outbox.relay.batch-size:500}") int batchSize,
+                                   @Value("${api-gestao.outbox.relay.max-batches-per-run:20}") int maxBatchesPerRun,
+                                   @Value("${api-gestao.outbox.relay.max-backoff:1m}") Duration maxBackoff,
+                                   @Value("${api-gestao.outbox.retention:7d}") Duration retention) {
+        OutboxRelay relay = new OutboxRelay(jdbcTemplate, new TransactionTemplate(transactionManager), outboxSink,
+                batchSize, maxBatchesPerRun, maxBackoff, retention);
+        Gauge.builder(PUBLISHED_OFFSET_METRIC, relay, OutboxRelay::getPublishedOffset)
+                .register(meterRegistry);
+        return relay;
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.apigestao.infrastructure.config;
+
+import br.com.apigestao.infrastructure.routing.ReadYourWritesFilter;
+import br.com.apigestao.infrastructure.routing.Replica;
+import br.com.apigestao.infrastructure.routing.ReplicaRoutingDataSource;
+import br.com.apigestao.infrastructure.routing.ReplicaSet;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+    Substitui o DataSource do Spring Boot por um roteamento entre o primário (spring.datasource.*)
+    e as réplicas listadas em api-gestao.datasource.replicas.urls. As réplicas herdam usuário,
+    senha e configurações spring.datasource.hikari.* do primário e abrem conexões somente leitura.
+*/
+@Configuration
+@ConditionalOnProperty(name = "api-gestao.datasource.replicas.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+    static final String REPLICA_LAG_METRIC = "apigestao.datasource.replica.lag";
+
+    @Bean
+    public ReplicaSet replicaSet(DataSourceProperties properties,
+                                 Environment environment,
+                                 ObjectProvider<MeterRegistry> meterRegistry,
+                                 @Value("${api-gestao.datasource.replicas.urls}") List<String> urls,
+                                 @Value("${api-gestao.datasource.replicas.max-lag:2s}") Duration maxLag,
+                                 @Value("${api-gestao.datasource.replicas.lag-query-timeout:1s}") Duration lagQueryTimeout) {
+        HikariDataSource primary = createPool(properties, environment, properties.determineUrl(), "primary");
+
+        List<Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource pool = createPool(properties, environment, urls.get(i).strip(), "replica-" + (i + 1));
+            pool.setReadOnly(true);
+            replicas.add(new Replica(pool.getPoolName(), pool));
+        }
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            for (Replica replica : replicas) {
+                replica.getDataSource().setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+                Gauge.builder(REPLICA_LAG_METRIC, replica, Replica::getLagMillis)
+                        .tag("replica", replica.getName())
+                        .baseUnit("milliseconds")
+                        .register(registry);
+            }
+        }
+
+        ReplicaSet replicaSet = new ReplicaSet(primary, replicas, maxLag, lagQueryTimeout);
+        replicaSet.checkReplicationLag();
+        return replicaSet;
+    }
+
+    @Bean
+    public DataSource dataSource(ReplicaSet replicaSet) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(replicaSet));
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${api-gestao.datasource.replicas.sticky-window:5s}") Duration stickyWindow) {
+        FilterRegistrationBean<ReadYourWritesFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new ReadYourWritesFilter(stickyWindow));
+        registrationBean.addUrlPatterns("/api/*");
+        return registrationBean;
+    }
+
+    private static HikariDataSource createPool(DataSourceProperties properties, Environment environment, String url,
+                                               String poolName) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(poolName);
+        return pool;
+    }
+}
@@ -1,30 +1,55 @@
 package br.com.apigestao.infrastructure.config;
 
+import br.com.apigestao.infrastructure.sql.SqlStatistics;
+import br.com.apigestao.infrastructure.sql.SqlStatisticsRegistry;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Component
 public class RequestMdcFilter extends OncePerRequestFilter {
 
+    /*
+        Quando a requisição não é amostrada, "sampled=false" vai para o MDC e o DynamicThresholdFilter
+        das configurações do Log4j2 descarta os logs abaixo de WARN dessa requisição. Requisições com
+        erro (status >= 400) ou lentas sempre registram a linha de conclusão.
+    */
+    public static final String SAMPLED_KEY = "sampled";
+
     private static final Logger log = LoggerFactory.getLogger(RequestMdcFilter.class);
 
+    private final SqlStatisticsRegistry sqlStatisticsRegistry;
+    private final double successSampleRate;
+    private final long slowRequestThresholdMillis;
+
+    public RequestMdcFilter(SqlStatisticsRegistry sqlStatisticsRegistry,
+                            @Value("${api-gestao.logging.success-sample-rate:1.0}") double successSampleRate,
+                            @Value("${api-gestao.logging.slow-request-threshold-ms:1000}") long slowRequestThresholdMillis) {
+        this.sqlStatisticsRegistry = sqlStatisticsRegistry;
+        this.successSampleRate = successSampleRate;
+        this.slowRequestThresholdMillis = slowRequestThresholdMillis;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain)
             throws ServletException, IOException {
         String requestId = UUID.randomUUID().toString();
+        boolean sampled = successSampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < successSampleRate;
         MDC.put("requestId", requestId);
         MDC.put("requestURI", request.getRequestURI());
         MDC.put("method", request.getMethod());
+        MDC.put(SAMPLED_KEY, String.valueOf(sampled));
         response.setHeader("X-Request-ID", requestId);
 
         log.info("Incoming {} {} [requestId={}]",
@@ -32,23 +57,42 @@ public class RequestMdcFilter extends OncePerRequestFilter {
                 request.getRequestURI(),
                 requestId);
 
+        sqlStatisticsRegistry.begin(requestId);
         long startTime = System.currentTimeMillis();
         try {
             filterChain.doFilter(request, response);
         } finally {
             long duration = System.currentTimeMillis() - startTime;
             int status = response.getStatus();
+            SqlStatistics sqlStatistics = sqlStatisticsRegistry.end(requestId);
+
+            if (status >= 400 || duration >= slowRequestThresholdMillis) {
+                MDC.put(SAMPLED_KEY, "true");
+            }
 
-            log.info("Completed {} {} → {} ({} ms) [requestId={}]",
-                    request.getMethod(),
-                    request.getRequestURI(),
-                    status,
-                    duration,
-                    requestId);
+            if (sqlStatistics == null) {
+                log.info("Completed {} {} → {} ({} ms) [requestId={}]",
+                        request.getMethod(),
+                        request.getRequestURI(),
+                        status,
+                        duration,
+                        requestId);
+            } else {
+                log.info("Completed {} {} → {} ({} ms, sql={} comandos, {} linhas, {} ms) [requestId={}]",
+                        request.getMethod(),
+                        request.getRequestURI(),
+                        status,
+                        duration,
+                        sqlStatistics.getStatements(),
+                        sqlStatistics.getRows(),
+                        sqlStatistics.getElapsedMillis(),
+                        requestId);
+            }
 
             MDC.remove("requestId");
             MDC.remove("requestURI");
             MDC.remove("method");
+            MDC.remove(SAMPLED_KEY);
         }
     }
-}
\ No newline at end of file
+}
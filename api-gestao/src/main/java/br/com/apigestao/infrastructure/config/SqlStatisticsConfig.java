@@ -0,0 +1,38 @@
+package br.com.apigestao.infrastructure.config;
+
+import br.com.apigestao.infrastructure.sql.SqlStatisticsListener;
+import br.com.apigestao.infrastructure.sql.SqlStatisticsRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "api-gestao.sql-statistics.enabled", havingValue = "true")
+public class SqlStatisticsConfig {
+
+    /*
+        Envolve o DataSource (Hikari) com o datasource-proxy para contar comandos, linhas lidas e
+        tempo de JDBC por requisição, incluindo o que é executado via JdbcTemplate.
+    */
+    @Bean
+    static BeanPostProcessor sqlStatisticsDataSourcePostProcessor(ObjectProvider<SqlStatisticsRegistry> registry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    SqlStatisticsListener listener = new SqlStatisticsListener(registry.getObject());
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(listener)
+                            .methodListener(listener)
+                            .proxyResultSet()
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.apigestao.infrastructure.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import java.sql.Driver;
+
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadsConfig.class);
+
+    private static final String POSTGRES_DRIVER = "org.postgresql.Driver";
+    private static final int MIN_DRIVER_MAJOR = 42;
+    private static final int MIN_DRIVER_MINOR = 6;
+
+    /*
+        Versões do driver PostgreSQL anteriores à 42.6 sincronizam o I/O com synchronized, o que
+        prende a thread portadora de cada thread virtual durante toda a consulta. A aplicação não
+        sobe em modo de threads virtuais com um driver nessas condições.
+    */
+    @Bean
+    public InitializingBean jdbcDriverPinningCheck() {
+        return () -> {
+            Driver driver = (Driver) Class.forName(POSTGRES_DRIVER).getDeclaredConstructor().newInstance();
+            int major = driver.getMajorVersion();
+            int minor = driver.getMinorVersion();
+            if (major < MIN_DRIVER_MAJOR || (major == MIN_DRIVER_MAJOR && minor < MIN_DRIVER_MINOR)) {
+                throw new IllegalStateException("Driver PostgreSQL " + major + "." + minor + " não é compatível com " +
+                        "threads virtuais. Utilize a versão " + MIN_DRIVER_MAJOR + "." + MIN_DRIVER_MINOR + " ou superior.");
+            }
+            log.info("Threads virtuais habilitadas. Driver PostgreSQL {}.{}", major, minor);
+        };
+    }
+}
@@ -1,19 +1,41 @@
 package br.com.apigestao.infrastructure.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.web.config.EnableSpringDataWebSupport;
+import org.springframework.data.web.config.PageableHandlerMethodArgumentResolverCustomizer;
 
 @Configuration
 @EnableSpringDataWebSupport(pageSerializationMode = EnableSpringDataWebSupport.PageSerializationMode.VIA_DTO)
 public class WebConfig {
+    private final int maxPageSize;
+
+    public WebConfig(@Value("${api-gestao.web.max-page-size:100}") int maxPageSize) {
+        this.maxPageSize = maxPageSize;
+    }
+
+    /* Mesmo limite para as listagens paginadas e as rolagens por cursor (KeysetCursor) */
+    public int getMaxPageSize() {
+        return maxPageSize;
+    }
 
     @Bean
-    public FilterRegistrationBean<RequestMdcFilter> loggingFilter() {
+    public FilterRegistrationBean<RequestMdcFilter> loggingFilter(RequestMdcFilter requestMdcFilter) {
         FilterRegistrationBean<RequestMdcFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new RequestMdcFilter());
+        registrationBean.setFilter(requestMdcFilter);
         registrationBean.addUrlPatterns("/api/*");
         return registrationBean;
     }
-}
\ No newline at end of file
+
+    /*
+        Com @EnableSpringDataWebSupport a auto-configuração do Spring Data Web não é aplicada e
+        spring.data.web.pageable.max-page-size é ignorada; o limite é definido aqui. Valores de
+        size acima do máximo são reduzidos ao máximo.
+    */
+    @Bean
+    public PageableHandlerMethodArgumentResolverCustomizer maxPageSizeCustomizer() {
+        return resolver -> resolver.setMaxPageSize(maxPageSize);
+    }
+}
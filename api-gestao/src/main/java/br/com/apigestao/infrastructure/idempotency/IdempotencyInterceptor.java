@@ -0,0 +1,143 @@
+package br.com.apigestao.infrastructure.idempotency;
+
+import br.com.apigestao.domain.exceptions.ConflictException;
+import br.com.apigestao.domain.exceptions.InvalidException;
+import br.com.apigestao.domain.exceptions.UnprocessableEntityException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/*
+    Aplica o Idempotency-Key nos handlers com @Idempotent. A primeira requisição com a chave
+    executa o handler e sua resposta é guardada; as repetições recebem a resposta guardada com o
+    cabeçalho Idempotent-Replayed, sem chegar ao serviço. Registrado antes do controle de
+    admissão, para que repetições não ocupem vaga nos limites de concorrência.
+*/
+public class IdempotencyInterceptor implements HandlerInterceptor {
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private static final String KEY_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".key";
+    private static final String FINGERPRINT_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".fingerprint";
+
+    private final IdempotencyStore store;
+    private final Duration waitTimeout;
+    private final Logger log = LoggerFactory.getLogger(IdempotencyInterceptor.class);
+
+    public IdempotencyInterceptor(IdempotencyStore store, Duration waitTimeout) {
+        this.store = store;
+        this.waitTimeout = waitTimeout;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (!(handler instanceof HandlerMethod handlerMethod) || !handlerMethod.hasMethodAnnotation(Idempotent.class)) {
+            return true;
+        }
+        IdempotencyFilter.CachedBodyRequest cachedRequest =
+                WebUtils.getNativeRequest(request, IdempotencyFilter.CachedBodyRequest.class);
+        String key = request.getHeader(IdempotencyFilter.HEADER);
+        if (key == null || cachedRequest == null) {
+            return true;
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            log.error("Idempotency-Key com tamanho inválido [requestId={}]", MDC.get("requestId"));
+            throw new InvalidException("Idempotency-Key deve ter entre 1 e " + MAX_KEY_LENGTH + " caracteres");
+        }
+
+        String fingerprint = fingerprint(request, cachedRequest.getBody());
+        IdempotencyStore.Claim claim = store.claim(key, fingerprint, waitTimeout);
+        switch (claim.state()) {
+            case OWNER -> {
+                request.setAttribute(KEY_ATTRIBUTE, key);
+                request.setAttribute(FINGERPRINT_ATTRIBUTE, fingerprint);
+                return true;
+            }
+            case COMPLETED -> {
+                IdempotentResponse stored = claim.response();
+                if (!stored.fingerprint().equals(fingerprint)) {
+                    log.error("Idempotency-Key {} já utilizada com outra requisição [requestId={}]",
+                            key, MDC.get("requestId"));
+                    throw new UnprocessableEntityException("Idempotency-Key já utilizada com outra requisição");
+                }
+                log.info("Resposta repetida para a Idempotency-Key {} [requestId={}]", key, MDC.get("requestId"));
+                replay(stored, response);
+                return false;
+            }
+            default -> {
+                log.warn("Idempotency-Key {} ainda em processamento [requestId={}]", key, MDC.get("requestId"));
+                throw new ConflictException("Requisição com esta Idempotency-Key ainda em processamento");
+            }
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!(request.getAttribute(KEY_ATTRIBUTE) instanceof String key)) {
+            return;
+        }
+        request.removeAttribute(KEY_ATTRIBUTE);
+
+        ContentCachingResponseWrapper cachedResponse =
+                WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+        /* Erros do servidor não são definitivos: a chave é liberada para uma nova tentativa */
+        if (ex != null || cachedResponse == null || response.getStatus() >= 500) {
+            store.release(key);
+            return;
+        }
+        store.complete(key, new IdempotentResponse(
+                (String) request.getAttribute(FINGERPRINT_ATTRIBUTE),
+                response.getStatus(),
+                response.getContentType(),
+                response.getHeader(HttpHeaders.LOCATION),
+                cachedResponse.getContentAsByteArray()));
+    }
+
+    private void replay(IdempotentResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, stored.location());
+        }
+        if (stored.body() != null && stored.body().length > 0) {
+            response.getOutputStream().write(stored.body());
+        }
+    }
+
+    static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ' ');
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            if (request.getQueryString() != null) {
+                digest.update((byte) '?');
+                digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
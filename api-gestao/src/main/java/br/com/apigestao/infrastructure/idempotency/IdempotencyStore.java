@@ -0,0 +1,35 @@
+package br.com.apigestao.infrastructure.idempotency;
+
+import java.time.Duration;
+
+public interface IdempotencyStore {
+
+    /*
+        Reserva a chave para quem chamou (OWNER) ou, se outra requisição já a reservou, aguarda
+        até waitTimeout pela resposta dela (COMPLETED). Se a resposta não ficar pronta a tempo,
+        retorna IN_PROGRESS. Quando o dono libera a chave sem resposta, um dos que aguardavam
+        passa a ser o dono.
+    */
+    Claim claim(String key, String fingerprint, Duration waitTimeout);
+
+    void complete(String key, IdempotentResponse response);
+
+    void release(String key);
+
+    enum State { OWNER, COMPLETED, IN_PROGRESS }
+
+    record Claim(State state, IdempotentResponse response) {
+
+        static Claim owner() {
+            return new Claim(State.OWNER, null);
+        }
+
+        static Claim completed(IdempotentResponse response) {
+            return new Claim(State.COMPLETED, response);
+        }
+
+        static Claim inProgress() {
+            return new Claim(State.IN_PROGRESS, null);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.apigestao.infrastructure.idempotency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+    Endpoint que aceita o cabeçalho Idempotency-Key: a primeira resposta (status < 500) é
+    guardada no IdempotencyStore e devolvida às repetições com a mesma chave, sem executar
+    o handler novamente.
+*/
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+}
@@ -0,0 +1,8 @@
+package br.com.apigestao.infrastructure.idempotency;
+
+/*
+    Resposta guardada para uma Idempotency-Key. O fingerprint (método, URI e corpo da requisição)
+    identifica a requisição original, para recusar a mesma chave usada com outro conteúdo.
+*/
+public record IdempotentResponse(String fingerprint, int status, String contentType, String location, byte[] body) {
+}
@@ -0,0 +1,72 @@
+package br.com.apigestao.infrastructure.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/*
+    Store local da instância: cada chave guarda um CompletableFuture com a resposta, criado pela
+    primeira requisição. Duplicatas concorrentes aguardam o mesmo future em vez de executar o
+    handler. O Caffeine limita a quantidade de chaves e expira as antigas; em várias instâncias
+    use o store jdbc.
+*/
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+    private final ConcurrentMap<String, CompletableFuture<IdempotentResponse>> entries;
+
+    public InMemoryIdempotencyStore(long maximumSize, Duration ttl) {
+        Cache<String, CompletableFuture<IdempotentResponse>> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.entries = cache.asMap();
+    }
+
+    @Override
+    public Claim claim(String key, String fingerprint, Duration waitTimeout) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (true) {
+            CompletableFuture<IdempotentResponse> existing = entries.putIfAbsent(key, new CompletableFuture<>());
+            if (existing == null) {
+                return Claim.owner();
+            }
+            try {
+                long remaining = deadline - System.nanoTime();
+                return Claim.completed(existing.get(Math.max(0, remaining), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                return Claim.inProgress();
+            } catch (CancellationException | ExecutionException e) {
+                /* O dono liberou a chave; tenta reservá-la novamente */
+                if (System.nanoTime() >= deadline) {
+                    return Claim.inProgress();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Claim.inProgress();
+            }
+        }
+    }
+
+    @Override
+    public void complete(String key, IdempotentResponse response) {
+        CompletableFuture<IdempotentResponse> future = entries.get(key);
+        if (future == null) {
+            entries.put(key, CompletableFuture.completedFuture(response));
+        } else {
+            future.complete(response);
+        }
+    }
+
+    @Override
+    public void release(String key) {
+        CompletableFuture<IdempotentResponse> future = entries.remove(key);
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+}
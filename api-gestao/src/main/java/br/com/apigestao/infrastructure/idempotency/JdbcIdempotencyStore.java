@@ -0,0 +1,101 @@
+package br.com.apigestao.infrastructure.idempotency;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+    Store compartilhado entre instâncias na tabela tbl_idempotencia. A reserva é um INSERT ... ON
+    CONFLICT: só uma instância insere (ou assume uma chave expirada); as demais consultam a linha
+    até a resposta ser gravada. Uma reserva em andamento expira em lease, o que libera a chave se
+    a instância dona cair antes de responder.
+*/
+public class JdbcIdempotencyStore implements IdempotencyStore {
+    private static final String CLAIM_SQL = """
+            INSERT INTO tbl_idempotencia (chave, fingerprint, criado_em, expira_em) VALUES (?, ?, ?, ?)
+            ON CONFLICT (chave) DO UPDATE
+                SET fingerprint = EXCLUDED.fingerprint, status = NULL, content_type = NULL, location = NULL,
+                    corpo = NULL, criado_em = EXCLUDED.criado_em, expira_em = EXCLUDED.expira_em
+                WHERE tbl_idempotencia.expira_em < EXCLUDED.criado_em
+            """;
+
+    private static final String FIND_SQL =
+            "SELECT fingerprint, status, content_type, location, corpo FROM tbl_idempotencia WHERE chave = ?";
+
+    private static final String COMPLETE_SQL =
+            "UPDATE tbl_idempotencia SET status = ?, content_type = ?, location = ?, corpo = ?, expira_em = ? " +
+                    "WHERE chave = ?";
+
+    private static final String RELEASE_SQL = "DELETE FROM tbl_idempotencia WHERE chave = ? AND status IS NULL";
+
+    private static final String PURGE_SQL = "DELETE FROM tbl_idempotencia WHERE expira_em < ?";
+
+    private static final RowMapper<IdempotentResponse> RESPONSE_ROW_MAPPER = (rs, rowNum) -> new IdempotentResponse(
+            rs.getString("fingerprint"),
+            rs.getObject("status") == null ? 0 : rs.getInt("status"),
+            rs.getString("content_type"),
+            rs.getString("location"),
+            rs.getBytes("corpo"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+    private final Duration lease;
+    private final Duration pollInterval;
+    private final Logger log = LoggerFactory.getLogger(JdbcIdempotencyStore.class);
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, Duration ttl, Duration lease, Duration pollInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = ttl;
+        this.lease = lease;
+        this.pollInterval = pollInterval;
+    }
+
+    @Override
+    public Claim claim(String key, String fingerprint, Duration waitTimeout) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (true) {
+            LocalDateTime now = LocalDateTime.now();
+            if (jdbcTemplate.update(CLAIM_SQL, key, fingerprint, now, now.plus(lease)) == 1) {
+                return Claim.owner();
+            }
+
+            List<IdempotentResponse> rows = jdbcTemplate.query(FIND_SQL, RESPONSE_ROW_MAPPER, key);
+            if (!rows.isEmpty() && rows.get(0).status() != 0) {
+                return Claim.completed(rows.get(0));
+            }
+            if (System.nanoTime() >= deadline) {
+                return Claim.inProgress();
+            }
+            try {
+                Thread.sleep(pollInterval);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Claim.inProgress();
+            }
+        }
+    }
+
+    @Override
+    public void complete(String key, IdempotentResponse response) {
+        jdbcTemplate.update(COMPLETE_SQL, response.status(), response.contentType(), response.location(),
+                response.body(), LocalDateTime.now().plus(ttl), key);
+    }
+
+    @Override
+    public void release(String key) {
+        jdbcTemplate.update(RELEASE_SQL, key);
+    }
+
+    @Scheduled(fixedDelayString = "${api-gestao.idempotency.purge-interval:10m}")
+    public void purgeExpired() {
+        int purged = jdbcTemplate.update(PURGE_SQL, LocalDateTime.now());
+        if (purged > 0) {
+            log.info("{} chaves de idempotência expiradas removidas", purged);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.apigestao.infrastructure.outbox;
+
+public enum ChangeEventType {
+    CUSTOMER_CREATED,
+    CUSTOMER_UPDATED,
+    CUSTOMER_DISABLED,
+    CUSTOMER_DELETED,
+    ACCOUNT_CREATED,
+    ACCOUNT_UPDATED,
+    ACCOUNT_CANCELLED
+}
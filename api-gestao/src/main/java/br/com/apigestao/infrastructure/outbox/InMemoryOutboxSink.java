@@ -0,0 +1,43 @@
+package br.com.apigestao.infrastructure.outbox;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/*
+    Sink em memória, limitado a capacity eventos, para testes e consumidores no mesmo processo.
+    Quando a fila enche, o relay para de publicar até que os eventos sejam consumidos.
+*/
+public class InMemoryOutboxSink implements OutboxSink {
+    private final BlockingQueue<OutboxEvent> events;
+
+    public InMemoryOutboxSink(int capacity) {
+        this.events = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return events.remainingCapacity();
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> batch) {
+        if (batch.size() > events.remainingCapacity()) {
+            throw new IllegalStateException("Capacidade do sink em memória excedida");
+        }
+        events.addAll(batch);
+    }
+
+    public OutboxEvent poll(Duration timeout) throws InterruptedException {
+        return events.poll(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    public List<OutboxEvent> drain() {
+        List<OutboxEvent> drained = new ArrayList<>();
+        events.drainTo(drained);
+        return drained;
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.apigestao.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/*
+    Sink em arquivo local, um evento JSON por linha. Cada lote é gravado e sincronizado com o
+    disco antes de o relay avançar o offset. Útil em desenvolvimento e testes; em produção,
+    registre um bean OutboxSink para o broker.
+*/
+public class LocalFileOutboxSink implements OutboxSink {
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public LocalFileOutboxSink(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        StringBuilder lines = new StringBuilder();
+        try {
+            for (OutboxEvent event : events) {
+                lines.append(objectMapper.writeValueAsString(toJson(event))).append('\n');
+            }
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar eventos do outbox em " + file, e);
+        }
+    }
+
+    private ObjectNode toJson(OutboxEvent event) throws IOException {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("id", event.id());
+        node.put("type", event.type().name());
+        node.put("aggregateId", event.aggregateId());
+        node.put("customerId", event.customerId());
+        node.put("createdDate", event.createdDate().toString());
+        node.set("payload", event.payload() == null ? null : objectMapper.readTree(event.payload()));
+        return node;
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.apigestao.infrastructure.outbox;
+
+import java.time.LocalDateTime;
+
+/*
+    Evento lido do outbox. O id é o offset do evento: crescente, e a ordem de publicação.
+    payload é o JSON do estado após a alteração (nulo em exclusões e cancelamentos).
+*/
+public record OutboxEvent(long id, ChangeEventType type, long aggregateId, long customerId, String payload,
+                          LocalDateTime createdDate) {
+}
@@ -0,0 +1,184 @@
+package br.com.apigestao.infrastructure.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+    Publica os eventos do outbox em lotes, na ordem dos ids, e avança o offset gravado em
+    tbl_outbox_relay na mesma transação em que lê o lote. Após uma queda, a publicação recomeça
+    do último offset gravado.
+
+    Um id só é atribuído no INSERT e a transação que o recebeu pode confirmar depois de outra com
+    id maior; num lote grande isso leva o tempo de inserir todos os eventos. Por isso o relay não
+    passa por um id ausente enquanto a transação dona dele puder estar em andamento. O OutboxWriter
+    garante que a transação já tem xid ao reservar o id; logo, a dona de um id ausente estava ativa
+    no primeiro snapshot após a ausência ser vista e tem xid abaixo do xmax dele. Quando o xmin de
+    um snapshot posterior passa desse xmax, todas essas transações terminaram e, se o id continua
+    ausente na leitura seguinte, ele foi descartado (rollback). Uma transação longa qualquer atrasa
+    a publicação, mas não faz eventos serem perdidos.
+*/
+public class OutboxRelay {
+    static final String RELAY_NAME = "default";
+    static final int RELAY_LOCK_NAMESPACE = 0x0B0D;
+
+    private static final String LOCK_SQL = "SELECT pg_try_advisory_xact_lock(?, 0)";
+
+    private static final String SNAPSHOT_SQL =
+            "SELECT pg_snapshot_xmin(s)::text::bigint AS xmin, pg_snapshot_xmax(s)::text::bigint AS xmax " +
+                    "FROM pg_current_snapshot() AS s";
+
+    private static final String OFFSET_SQL = "SELECT ultimo_id FROM tbl_outbox_relay WHERE nome = ?";
+
+    private static final String FETCH_SQL =
+            "SELECT id, tipo_evento, agregado_id, customer_id, payload::text AS payload, created_date " +
+                    "FROM tbl_outbox WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String ADVANCE_SQL =
+            "UPDATE tbl_outbox_relay SET ultimo_id = ?, last_modified_date = ? WHERE nome = ?";
+
+    private static final String PURGE_SQL = "DELETE FROM tbl_outbox WHERE id <= ? AND created_date < ?";
+
+    private static final RowMapper<Snapshot> SNAPSHOT_ROW_MAPPER = (rs, rowNum) -> new Snapshot(
+            rs.getLong("xmin"),
+            rs.getLong("xmax"));
+
+    private static final RowMapper<OutboxEvent> EVENT_ROW_MAPPER = (rs, rowNum) -> new OutboxEvent(
+            rs.getLong("id"),
+            ChangeEventType.valueOf(rs.getString("tipo_evento")),
+            rs.getLong("agregado_id"),
+            rs.getLong("customer_id"),
+            rs.getString("payload"),
+            rs.getObject("created_date", LocalDateTime.class));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxSink sink;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration maxBackoff;
+    private final Duration retention;
+    private final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private volatile long publishedOffset;
+    private long gapPosition = -1;
+    private long gapHorizon = -1;
+    private Duration backoff = Duration.ZERO;
+    private Instant retryAt = Instant.MIN;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, OutboxSink sink,
+                       int batchSize, int maxBatchesPerRun, Duration maxBackoff, Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.maxBackoff = maxBackoff;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${api-gestao.outbox.relay.interval:500ms}")
+    public void relay() {
+        if (Instant.now().isBefore(retryAt)) {
+            return;
+        }
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                if (!Boolean.TRUE.equals(transactionTemplate.execute(status -> publishBatch()))) {
+                    break;
+                }
+            }
+            backoff = Duration.ZERO;
+        } catch (RuntimeException e) {
+            backoff = backoff.isZero() ? Duration.ofSeconds(1) : min(backoff.multipliedBy(2), maxBackoff);
+            retryAt = Instant.now().plus(backoff);
+            log.error("Falha ao publicar eventos do outbox. Nova tentativa em {}", backoff, e);
+        }
+    }
+
+    /* Retorna true quando um lote cheio foi publicado e pode haver mais eventos pendentes */
+    private boolean publishBatch() {
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(LOCK_SQL, Boolean.class, RELAY_LOCK_NAMESPACE))) {
+            log.debug("Outbox sendo publicado por outra instância");
+            return false;
+        }
+        int limit = Math.min(batchSize, sink.remainingCapacity());
+        if (limit == 0) {
+            log.debug("Sink do outbox sem capacidade; publicação adiada");
+            return false;
+        }
+
+        Long offset = jdbcTemplate.queryForObject(OFFSET_SQL, Long.class, RELAY_NAME);
+        /* O snapshot precede a leitura: o que terminou antes dele aparece nos candidatos */
+        Snapshot snapshot = jdbcTemplate.queryForObject(SNAPSHOT_SQL, SNAPSHOT_ROW_MAPPER);
+        List<OutboxEvent> candidates = jdbcTemplate.query(FETCH_SQL, EVENT_ROW_MAPPER, offset, limit);
+        List<OutboxEvent> events = publishable(offset, candidates, snapshot);
+        if (events.isEmpty()) {
+            publishedOffset = offset;
+            return false;
+        }
+
+        sink.publish(events);
+        long lastId = events.get(events.size() - 1).id();
+        jdbcTemplate.update(ADVANCE_SQL, lastId, LocalDateTime.now(), RELAY_NAME);
+        publishedOffset = lastId;
+        log.debug("{} eventos do outbox publicados até o id {}", events.size(), lastId);
+        return events.size() == limit;
+    }
+
+    /*
+        Prefixo dos candidatos sem ids ausentes após o offset, exceto ausências cujas transações
+        possíveis já terminaram. O snapshot deve ter sido obtido antes da leitura dos candidatos.
+    */
+    List<OutboxEvent> publishable(long offset, List<OutboxEvent> candidates, Snapshot snapshot) {
+        long expected = offset + 1;
+        int end = 0;
+        for (OutboxEvent event : candidates) {
+            if (event.id() != expected) {
+                if (gapPosition != expected) {
+                    /* O snapshot desta rodada é anterior à leitura que revelou a ausência */
+                    gapPosition = expected;
+                    gapHorizon = -1;
+                    break;
+                }
+                if (gapHorizon < 0) {
+                    gapHorizon = snapshot.xmax();
+                }
+                if (snapshot.xmin() < gapHorizon) {
+                    break;
+                }
+                log.warn("Ids {} a {} ausentes no outbox após o fim das transações em andamento; " +
+                        "considerados descartados", expected, event.id() - 1);
+            }
+            expected = event.id() + 1;
+            end++;
+        }
+        return candidates.subList(0, end);
+    }
+
+    @Scheduled(cron = "${api-gestao.outbox.purge-cron:0 30 3 * * *}")
+    public void purgePublished() {
+        Long offset = jdbcTemplate.queryForObject(OFFSET_SQL, Long.class, RELAY_NAME);
+        int purged = jdbcTemplate.update(PURGE_SQL, offset, LocalDateTime.now().minus(retention));
+        log.info("{} eventos publicados removidos do outbox", purged);
+    }
+
+    public long getPublishedOffset() {
+        return publishedOffset;
+    }
+
+    /* Limites do snapshot corrente: xids abaixo de xmin terminaram; a partir de xmax ainda não existiam */
+    record Snapshot(long xmin, long xmax) {
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.apigestao.infrastructure.outbox;
+
+import java.util.List;
+
+/*
+    Destino dos eventos do outbox. A entrega é pelo menos uma vez: se o relay cair entre a
+    publicação e a gravação do offset, o lote é publicado de novo e o consumidor descarta os
+    ids já vistos.
+*/
+public interface OutboxSink {
+
+    /* Quantos eventos o destino aceita agora. Com 0, o relay aguarda a próxima execução */
+    int remainingCapacity();
+
+    /* Publica os eventos na ordem recebida. Uma exceção faz o lote inteiro ser reenviado depois */
+    void publish(List<OutboxEvent> events);
+}
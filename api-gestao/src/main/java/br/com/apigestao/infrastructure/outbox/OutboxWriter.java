@@ -0,0 +1,111 @@
+package br.com.apigestao.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/*
+    Grava o evento na transação do serviço que fez a alteração: o evento existe se, e somente se,
+    a alteração foi confirmada. Deve ser a última escrita da transação. O lock consultivo por
+    cliente, mantido até o commit, faz os ids dos eventos de um mesmo cliente seguirem a ordem
+    dos commits. O comando do lock também atribui o xid da transação (pg_current_xact_id) antes de
+    o INSERT reservar o id do evento, o que o OutboxRelay usa para saber quando um id ausente foi
+    descartado.
+*/
+@Component
+public class OutboxWriter {
+    static final int CUSTOMER_LOCK_NAMESPACE = 0x0B0C;
+    static final int BATCH_SIZE = 500;
+
+    private static final String LOCK_SQL = "SELECT pg_current_xact_id(), pg_advisory_xact_lock(?, ?)";
+
+    private static final String LOCK_ALL_SQL =
+            "SELECT pg_current_xact_id(), pg_advisory_xact_lock(?, k) FROM unnest(?) AS k";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO tbl_outbox (tipo_evento, agregado_id, customer_id, payload, created_date) " +
+                    "VALUES (?, ?, ?, ?::jsonb, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public OutboxWriter(JdbcTemplate jdbcTemplate, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(ChangeEventType type, Long aggregateId, Long customerId) {
+        append(type, aggregateId, customerId, () -> null);
+    }
+
+    /*
+        As alterações pendentes no contexto JPA vão para o banco antes do evento, para que nada
+        falhe depois dele; o payload é montado após esse flush, com as datas de auditoria já preenchidas.
+    */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(ChangeEventType type, Long aggregateId, Long customerId, Supplier<?> payload) {
+        entityManager.flush();
+        String json = toJson(payload.get());
+        jdbcTemplate.queryForList(LOCK_SQL, CUSTOMER_LOCK_NAMESPACE, Long.hashCode(customerId));
+        jdbcTemplate.update(INSERT_SQL, type.name(), aggregateId, customerId, json, LocalDateTime.now());
+    }
+
+    /*
+        Um evento por alteração de uma operação em lote, com o próprio item como payload. Os locks
+        dos clientes são obtidos em um único comando, em ordem crescente, para que dois lotes
+        concorrentes não se bloqueiem mutuamente; os eventos são gravados com JDBC batch.
+    */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> void appendAll(ChangeEventType type, List<T> changes, Function<T, Long> aggregateId,
+                              Function<T, Long> customerId) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        LocalDateTime now = LocalDateTime.now();
+        Set<Integer> lockKeys = new TreeSet<>();
+        List<Object[]> rows = new ArrayList<>(changes.size());
+        for (T change : changes) {
+            Long customer = customerId.apply(change);
+            lockKeys.add(Long.hashCode(customer));
+            rows.add(new Object[]{type.name(), aggregateId.apply(change), customer, toJson(change), now});
+        }
+
+        jdbcTemplate.query(connection -> {
+            var ps = connection.prepareStatement(LOCK_ALL_SQL);
+            ps.setInt(1, CUSTOMER_LOCK_NAMESPACE);
+            ps.setArray(2, connection.createArrayOf("integer", lockKeys.toArray()));
+            return ps;
+        }, rs -> { });
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            for (int i = 0; i < row.length; i++) {
+                ps.setObject(i + 1, row[i]);
+            }
+        });
+    }
+
+    private String toJson(Object payload) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Não foi possível serializar o evento do outbox", e);
+        }
+    }
+}
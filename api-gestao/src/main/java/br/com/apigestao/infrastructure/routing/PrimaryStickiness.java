@@ -0,0 +1,42 @@
+package br.com.apigestao.infrastructure.routing;
+
+import java.util.function.Supplier;
+
+/*
+    Marca a thread da requisição para ler do primário mesmo em transações readOnly
+    (read-your-writes). Preenchido e limpo pelo ReadYourWritesFilter.
+*/
+public final class PrimaryStickiness {
+    private static final ThreadLocal<Boolean> STICKY = new ThreadLocal<>();
+
+    private PrimaryStickiness() {
+    }
+
+    public static void stick() {
+        STICKY.set(Boolean.TRUE);
+    }
+
+    public static boolean isSticky() {
+        return Boolean.TRUE.equals(STICKY.get());
+    }
+
+    public static void clear() {
+        STICKY.remove();
+    }
+
+    /*
+        Executa a leitura no primário e restaura a marcação anterior. Só vale para a conexão obtida
+        dentro do bloco: numa transação que já usou uma réplica, a conexão continua sendo a da réplica.
+    */
+    public static <T> T onPrimary(Supplier<T> read) {
+        boolean wasSticky = isSticky();
+        stick();
+        try {
+            return read.get();
+        } finally {
+            if (!wasSticky) {
+                clear();
+            }
+        }
+    }
+}
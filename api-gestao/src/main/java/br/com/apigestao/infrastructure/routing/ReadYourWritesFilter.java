@@ -0,0 +1,70 @@
+package br.com.apigestao.infrastructure.routing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/*
+    Read-your-writes por sessão do cliente, sem estado no servidor: toda requisição de escrita
+    devolve um cookie com o instante até o qual as leituras desse cliente vão para o primário.
+    A própria requisição de escrita também não usa réplicas.
+*/
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    public static final String COOKIE_NAME = "api-gestao-primary-until";
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Duration stickyWindow;
+
+    public ReadYourWritesFilter(Duration stickyWindow) {
+        this.stickyWindow = stickyWindow;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        boolean write = !READ_METHODS.contains(request.getMethod());
+
+        if (write) {
+            /* O cookie precisa ser adicionado antes de o corpo da resposta ser escrito */
+            Cookie cookie = new Cookie(COOKIE_NAME, String.valueOf(now + stickyWindow.toMillis()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, stickyWindow.toSeconds()));
+            response.addCookie(cookie);
+        }
+
+        if (write || stickyUntil(request) > now) {
+            PrimaryStickiness.stick();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            PrimaryStickiness.clear();
+        }
+    }
+
+    private static long stickyUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
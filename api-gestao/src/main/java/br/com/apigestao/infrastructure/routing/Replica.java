@@ -0,0 +1,40 @@
+package br.com.apigestao.infrastructure.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/*
+    Réplica de leitura e o último estado medido pelo ReplicaSet. Até a primeira
+    verificação a réplica fica indisponível e as leituras vão para o primário.
+*/
+public class Replica {
+    private final String name;
+    private final HikariDataSource dataSource;
+    private volatile boolean available;
+    private volatile long lagMillis = -1;
+
+    public Replica(String name, HikariDataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public HikariDataSource getDataSource() {
+        return dataSource;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    void update(boolean available, long lagMillis) {
+        this.available = available;
+        this.lagMillis = lagMillis;
+    }
+}
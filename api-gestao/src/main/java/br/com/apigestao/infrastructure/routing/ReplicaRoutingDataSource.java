@@ -0,0 +1,48 @@
+package br.com.apigestao.infrastructure.routing;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+    Transações readOnly vão para uma réplica disponível (round-robin); escritas, leituras fora
+    de transação, requisições marcadas pelo PrimaryStickiness e a ausência de réplicas
+    disponíveis vão para o primário. Precisa ficar atrás de um LazyConnectionDataSourceProxy:
+    o flag readOnly só é conhecido depois que a transação começa.
+*/
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    static final String PRIMARY = "primary";
+
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(ReplicaSet replicaSet) {
+        this.replicas = replicaSet.getReplicas();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, replicaSet.getPrimary());
+        replicas.forEach(replica -> targets.put(replica.getName(), replica.getDataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(replicaSet.getPrimary());
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PrimaryStickiness.isSticky()) {
+            return PRIMARY;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isAvailable()) {
+                return replica.getName();
+            }
+        }
+        return PRIMARY;
+    }
+}
@@ -0,0 +1,90 @@
+package br.com.apigestao.infrastructure.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+/*
+    Pools do primário e das réplicas de leitura. O atraso de replicação de cada réplica é medido
+    periodicamente; réplicas acima do atraso máximo ou que não respondem deixam de receber
+    leituras até a próxima verificação bem-sucedida. Uma instância que não está em recovery
+    (ex.: um segundo banco local) é tratada como atraso zero.
+*/
+public class ReplicaSet implements AutoCloseable {
+    static final String LAG_SQL = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE coalesce(extract(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   END::BIGINT
+            """;
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final int queryTimeoutSeconds;
+    private final Logger log = LoggerFactory.getLogger(ReplicaSet.class);
+
+    public ReplicaSet(HikariDataSource primary, List<Replica> replicas, Duration maxLag, Duration queryTimeout) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.maxLagMillis = maxLag.toMillis();
+        this.queryTimeoutSeconds = (int) Math.max(1, queryTimeout.toSeconds());
+    }
+
+    public HikariDataSource getPrimary() {
+        return primary;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    @Scheduled(fixedDelayString = "${api-gestao.datasource.replicas.lag-check-interval:1s}")
+    public void checkReplicationLag() {
+        replicas.forEach(this::check);
+    }
+
+    void check(Replica replica) {
+        boolean wasAvailable = replica.isAvailable();
+        try {
+            long lagMillis = measureLag(replica);
+            boolean available = lagMillis <= maxLagMillis;
+            replica.update(available, lagMillis);
+            if (wasAvailable && !available) {
+                log.warn("Réplica {} com atraso de {} ms (máximo {} ms); leituras redirecionadas ao primário",
+                        replica.getName(), lagMillis, maxLagMillis);
+            } else if (!wasAvailable && available) {
+                log.info("Réplica {} disponível para leituras (atraso de {} ms)", replica.getName(), lagMillis);
+            }
+        } catch (Exception e) {
+            replica.update(false, -1);
+            if (wasAvailable) {
+                log.warn("Réplica {} indisponível; leituras redirecionadas ao primário: {}", replica.getName(),
+                        e.getMessage());
+            }
+        }
+    }
+
+    long measureLag(Replica replica) throws Exception {
+        try (Connection connection = replica.getDataSource().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(queryTimeoutSeconds);
+            try (ResultSet resultSet = statement.executeQuery(LAG_SQL)) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.getDataSource().close());
+        primary.close();
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.apigestao.infrastructure.sql;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+    Número máximo de comandos SQL que o endpoint pode executar por requisição, considerando
+    o cache de clientes vazio. Verificado pelo SqlStatisticsResponseAdvice.
+*/
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlStatementBudget {
+    int value();
+}
@@ -0,0 +1,31 @@
+package br.com.apigestao.infrastructure.sql;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SqlStatistics {
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicLong rows = new AtomicLong();
+    private final AtomicLong elapsedMillis = new AtomicLong();
+
+    void recordStatement(long elapsedMillis) {
+        this.statements.incrementAndGet();
+        this.elapsedMillis.addAndGet(elapsedMillis);
+    }
+
+    void recordRow() {
+        rows.incrementAndGet();
+    }
+
+    public int getStatements() {
+        return statements.get();
+    }
+
+    public long getRows() {
+        return rows.get();
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis.get();
+    }
+}
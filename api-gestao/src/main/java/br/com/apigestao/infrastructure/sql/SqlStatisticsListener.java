@@ -0,0 +1,49 @@
+package br.com.apigestao.infrastructure.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import java.sql.ResultSet;
+import java.util.List;
+
+/*
+    Cada execução JDBC conta como um comando (um executeBatch é uma única ida ao banco).
+    As linhas são contadas pelas chamadas a ResultSet.next() que retornam true.
+*/
+public class SqlStatisticsListener implements QueryExecutionListener, MethodExecutionListener {
+    private final SqlStatisticsRegistry registry;
+
+    public SqlStatisticsListener(SqlStatisticsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlStatistics statistics = registry.current();
+        if (statistics != null) {
+            statistics.recordStatement(execInfo.getElapsedTime());
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            SqlStatistics statistics = registry.current();
+            if (statistics != null) {
+                statistics.recordRow();
+            }
+        }
+    }
+}
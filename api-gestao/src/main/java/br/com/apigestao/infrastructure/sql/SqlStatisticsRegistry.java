@@ -0,0 +1,36 @@
+package br.com.apigestao.infrastructure.sql;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+    Estatísticas de SQL por requisição, indexadas pelo requestId que o RequestMdcFilter coloca no MDC.
+    Comandos executados fora de uma requisição (Flyway, inicialização) não são contabilizados.
+*/
+@Component
+public class SqlStatisticsRegistry {
+    private final Map<String, SqlStatistics> statistics = new ConcurrentHashMap<>();
+    private final boolean enabled;
+
+    public SqlStatisticsRegistry(@Value("${api-gestao.sql-statistics.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void begin(String requestId) {
+        if (enabled) {
+            statistics.put(requestId, new SqlStatistics());
+        }
+    }
+
+    public SqlStatistics current() {
+        String requestId = MDC.get("requestId");
+        return requestId == null ? null : statistics.get(requestId);
+    }
+
+    public SqlStatistics end(String requestId) {
+        return enabled ? statistics.remove(requestId) : null;
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.apigestao.infrastructure.sql;
+
+import br.com.apigestao.domain.exceptions.ServerException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/*
+    Expõe as estatísticas de SQL da requisição em cabeçalhos de resposta fora do perfil prod.
+    Os cabeçalhos são gravados antes do corpo, então respostas escritas diretamente no
+    HttpServletResponse (exportações) não os recebem.
+*/
+@Profile("!prod")
+@RestControllerAdvice
+public class SqlStatisticsResponseAdvice implements ResponseBodyAdvice<Object> {
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String ROWS_HEADER = "X-SQL-Rows";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+    public static final String BUDGET_HEADER = "X-SQL-Statement-Budget";
+
+    private final Logger log = LoggerFactory.getLogger(SqlStatisticsResponseAdvice.class);
+    private final SqlStatisticsRegistry registry;
+    private final boolean failOnBudgetExceeded;
+
+    public SqlStatisticsResponseAdvice(SqlStatisticsRegistry registry,
+            @Value("${api-gestao.sql-statistics.fail-on-budget-exceeded:false}") boolean failOnBudgetExceeded) {
+        this.registry = registry;
+        this.failOnBudgetExceeded = failOnBudgetExceeded;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlStatistics statistics = registry.current();
+        if (statistics == null) {
+            return body;
+        }
+        response.getHeaders().set(STATEMENTS_HEADER, String.valueOf(statistics.getStatements()));
+        response.getHeaders().set(ROWS_HEADER, String.valueOf(statistics.getRows()));
+        response.getHeaders().set(TIME_HEADER, String.valueOf(statistics.getElapsedMillis()));
+
+        SqlStatementBudget budget = returnType.getMethodAnnotation(SqlStatementBudget.class);
+        if (budget != null) {
+            response.getHeaders().set(BUDGET_HEADER, String.valueOf(budget.value()));
+            if (statistics.getStatements() > budget.value()) {
+                String message = String.format("Orçamento de SQL excedido em %s: %d comandos (máximo %d)",
+                        returnType.getExecutable().getName(), statistics.getStatements(), budget.value());
+                log.warn("{} [requestId={}]", message, MDC.get("requestId"));
+                if (failOnBudgetExceeded) {
+                    throw new ServerException(message);
+                }
+            }
+        }
+        return body;
+    }
+}
@@ -0,0 +1,5 @@
+package br.com.apigestao.infrastructure.validations;
+
+import jakarta.validation.groups.Default;
+
+public interface BatchCreateValidation extends Default { }
@@ -0,0 +1,15 @@
+-- Paginação por keyset das contas de um cliente (GET /clientes/{idCliente}/contas/scroll): cada
+-- ordenação suportada tem um índice (customer_id, chave, id), e a próxima página continua a varredura
+-- do índice em vez de ordenar todas as contas do cliente. tbl_contas é particionada e não aceita
+-- CREATE INDEX CONCURRENTLY.
+CREATE INDEX IF NOT EXISTS idx_tbl_contas_customer_id
+    ON tbl_contas (customer_id, id);
+
+CREATE INDEX IF NOT EXISTS idx_tbl_contas_customer_created_id
+    ON tbl_contas (customer_id, created_date, id);
+
+-- Substitui idx_tbl_contas_customer_last_modified, que continua atendendo os marcadores de alteração
+CREATE INDEX IF NOT EXISTS idx_tbl_contas_customer_last_modified_id
+    ON tbl_contas (customer_id, last_modified_date, id);
+
+DROP INDEX IF EXISTS idx_tbl_contas_customer_last_modified;
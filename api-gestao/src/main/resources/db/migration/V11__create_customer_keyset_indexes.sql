@@ -0,0 +1,11 @@
+-- Paginação por keyset da busca de clientes (GET /clientes/scroll) ordenada por createdDate ou
+-- lastModifiedDate: o id no fim do índice desempata a ordenação na mesma ordem do cursor.
+-- CONCURRENTLY evita bloquear escritas; o Flyway executa este script fora de transação.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tbl_clientes_created_id
+    ON tbl_clientes (created_date, id);
+
+-- Substitui idx_tbl_clientes_last_modified, que continua atendendo os marcadores de alteração
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tbl_clientes_last_modified_id
+    ON tbl_clientes (last_modified_date, id);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_tbl_clientes_last_modified;
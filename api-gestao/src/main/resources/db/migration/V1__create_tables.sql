@@ -0,0 +1,26 @@
+-- Esquema inicial, equivalente ao gerado anteriormente pelo ddl-auto=update.
+-- Bancos já existentes são marcados nesta versão pelo baseline do Flyway.
+CREATE TABLE IF NOT EXISTS tbl_clientes (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_date       TIMESTAMP(6) NOT NULL,
+    last_modified_date TIMESTAMP(6) NOT NULL,
+    nome               VARCHAR(255) NOT NULL,
+    cpf                VARCHAR(255) NOT NULL,
+    email              VARCHAR(255),
+    telefone           VARCHAR(255),
+    enabled            BOOLEAN      NOT NULL,
+    CONSTRAINT uk_tbl_clientes_cpf UNIQUE (cpf),
+    CONSTRAINT uk_tbl_clientes_email UNIQUE (email)
+);
+
+CREATE TABLE IF NOT EXISTS tbl_contas (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    created_date       TIMESTAMP(6)   NOT NULL,
+    last_modified_date TIMESTAMP(6)   NOT NULL,
+    referencia         VARCHAR(255)   NOT NULL,
+    valor              NUMERIC(38, 2) NOT NULL,
+    situacao           VARCHAR(255)   NOT NULL,
+    customer_id        BIGINT         NOT NULL,
+    CONSTRAINT ck_tbl_contas_situacao CHECK (situacao IN ('PENDENTE', 'PAGA', 'CANCELADA')),
+    CONSTRAINT fk_tbl_contas_customer FOREIGN KEY (customer_id) REFERENCES tbl_clientes (id)
+);
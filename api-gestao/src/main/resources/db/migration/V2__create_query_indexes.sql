@@ -0,0 +1,19 @@
+-- Índices para os padrões de consulta dos repositórios. CONCURRENTLY evita bloquear
+-- escritas em tabelas já populadas; o Flyway executa este script fora de transação.
+
+-- AccountRepository.findByCustomer e filtros por situação da conta
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tbl_contas_customer_situacao
+    ON tbl_contas (customer_id, situacao);
+
+-- Consultas de contas de um cliente por mês de referência
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tbl_contas_customer_referencia
+    ON tbl_contas (customer_id, referencia);
+
+-- Filtro "phone" da busca de clientes
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tbl_clientes_telefone
+    ON tbl_clientes (telefone);
+
+-- Filtro "enabled=true" da busca de clientes, ordenado pela chave primária
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tbl_clientes_enabled
+    ON tbl_clientes (id)
+    WHERE enabled;
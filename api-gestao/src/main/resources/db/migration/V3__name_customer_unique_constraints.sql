@@ -0,0 +1,30 @@
+-- O cadastro de clientes identifica conflitos pelo nome da constraint violada.
+-- Bancos criados pelo ddl-auto=update possuem nomes gerados pelo Hibernate; aqui eles
+-- são renomeados (ou criados, se ausentes) para os nomes esperados pela aplicação.
+DO $$
+DECLARE
+    expected RECORD;
+    current_name TEXT;
+BEGIN
+    FOR expected IN
+        SELECT * FROM (VALUES ('cpf', 'uk_tbl_clientes_cpf'), ('email', 'uk_tbl_clientes_email')) AS c(column_name, constraint_name)
+    LOOP
+        SELECT con.conname INTO current_name
+        FROM pg_constraint con
+                 JOIN pg_attribute att ON att.attrelid = con.conrelid AND att.attnum = ANY (con.conkey)
+        WHERE con.conrelid = 'tbl_clientes'::regclass
+          AND con.contype = 'u'
+          AND array_length(con.conkey, 1) = 1
+          AND att.attname = expected.column_name
+        LIMIT 1;
+
+        IF current_name IS NULL THEN
+            EXECUTE format('ALTER TABLE tbl_clientes ADD CONSTRAINT %I UNIQUE (%I)',
+                           expected.constraint_name, expected.column_name);
+        ELSIF current_name <> expected.constraint_name THEN
+            EXECUTE format('ALTER TABLE tbl_clientes RENAME CONSTRAINT %I TO %I',
+                           current_name, expected.constraint_name);
+        END IF;
+    END LOOP;
+END
+$$;
@@ -0,0 +1,10 @@
+-- Marcadores de alteração usados nos ETags das listagens: count(*) e max(last_modified_date)
+-- respondidos por index-only scan, sem ler as linhas das tabelas.
+
+-- Contas de um cliente (GET /clientes/{idCliente}/contas)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tbl_contas_customer_last_modified
+    ON tbl_contas (customer_id, last_modified_date);
+
+-- Busca de clientes sem filtros (GET /clientes)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tbl_clientes_last_modified
+    ON tbl_clientes (last_modified_date);
@@ -0,0 +1,10 @@
+-- Busca de clientes por nome (parcial e sem acentos). unaccent() é STABLE e não pode ser usada
+-- em índices; f_unaccent fixa o dicionário e pode ser declarada IMMUTABLE.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+CREATE OR REPLACE FUNCTION f_unaccent(text) RETURNS text
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT
+AS $$
+SELECT public.unaccent('public.unaccent'::regdictionary, $1)
+$$;
@@ -0,0 +1,4 @@
+-- Filtro "name" da busca de clientes: LIKE '%termo%' sobre f_unaccent(lower(nome)) atendido por
+-- trigramas. A expressão precisa ser idêntica à gerada por CustomerSpecifications.nameMatches.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tbl_clientes_nome_trgm
+    ON tbl_clientes USING gin (f_unaccent(lower(nome)) gin_trgm_ops);
@@ -0,0 +1,87 @@
+-- tbl_contas passa a ser particionada por período de faturamento: a coluna periodo guarda o
+-- primeiro dia do mês da referência (MM-AAAA) e cada mês fica em uma partição própria.
+-- Consultas filtradas por periodo leem só a partição do mês, e meses antigos podem ser
+-- arquivados com DETACH PARTITION sem DELETE na tabela principal.
+
+CREATE TABLE tbl_contas_particionada (
+    id                 BIGINT         NOT NULL,
+    created_date       TIMESTAMP(6)   NOT NULL,
+    last_modified_date TIMESTAMP(6)   NOT NULL,
+    referencia         VARCHAR(255)   NOT NULL,
+    periodo            DATE           NOT NULL,
+    valor              NUMERIC(38, 2) NOT NULL,
+    situacao           VARCHAR(255)   NOT NULL,
+    customer_id        BIGINT         NOT NULL,
+    -- A chave de partição precisa fazer parte da chave primária; o id continua único pela sequence.
+    CONSTRAINT pk_tbl_contas PRIMARY KEY (id, periodo),
+    CONSTRAINT ck_tbl_contas_situacao CHECK (situacao IN ('PENDENTE', 'PAGA', 'CANCELADA')),
+    CONSTRAINT ck_tbl_contas_periodo CHECK (extract(DAY FROM periodo) = 1 AND to_char(periodo, 'MM-YYYY') = referencia),
+    CONSTRAINT fk_tbl_contas_customer FOREIGN KEY (customer_id) REFERENCES tbl_clientes (id)
+) PARTITION BY RANGE (periodo);
+
+ALTER TABLE tbl_contas RENAME TO tbl_contas_legado;
+ALTER TABLE tbl_contas_particionada RENAME TO tbl_contas;
+
+-- Cria (se necessário) a partição do mês informado. Linhas desse mês que já estejam na
+-- partição padrão são movidas para a nova partição.
+CREATE OR REPLACE FUNCTION create_tbl_contas_partition(p_periodo DATE) RETURNS TEXT
+    LANGUAGE plpgsql
+AS $$
+DECLARE
+    inicio DATE := date_trunc('month', p_periodo)::DATE;
+    fim    DATE := (date_trunc('month', p_periodo) + INTERVAL '1 month')::DATE;
+    nome   TEXT := 'tbl_contas_' || to_char(p_periodo, 'YYYY_MM');
+    padrao BOOLEAN;
+BEGIN
+    IF to_regclass(nome) IS NOT NULL THEN
+        RETURN nome;
+    END IF;
+
+    padrao := to_regclass('tbl_contas_padrao') IS NOT NULL;
+    IF padrao THEN
+        ALTER TABLE tbl_contas DETACH PARTITION tbl_contas_padrao;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I PARTITION OF tbl_contas FOR VALUES FROM (%L) TO (%L)', nome, inicio, fim);
+
+    IF padrao THEN
+        EXECUTE format('WITH movidas AS (DELETE FROM tbl_contas_padrao WHERE periodo >= %L AND periodo < %L '
+                           'RETURNING *) INSERT INTO %I SELECT * FROM movidas', inicio, fim, nome);
+        ALTER TABLE tbl_contas ATTACH PARTITION tbl_contas_padrao DEFAULT;
+    END IF;
+    RETURN nome;
+END
+$$;
+
+-- Meses já existentes, os últimos 12 e os próximos 12; referências fora disso vão para a
+-- partição padrão até que o agendamento da aplicação crie a partição do mês.
+SELECT create_tbl_contas_partition(periodo)
+FROM (SELECT DISTINCT to_date(referencia, 'MM-YYYY') AS periodo FROM tbl_contas_legado
+      UNION
+      SELECT generate_series(date_trunc('month', current_date) - INTERVAL '12 months',
+                             date_trunc('month', current_date) + INTERVAL '12 months',
+                             INTERVAL '1 month')::DATE) AS periodos
+ORDER BY periodo;
+
+CREATE TABLE tbl_contas_padrao PARTITION OF tbl_contas DEFAULT;
+
+INSERT INTO tbl_contas (id, created_date, last_modified_date, referencia, periodo, valor, situacao, customer_id)
+SELECT id, created_date, last_modified_date, referencia, to_date(referencia, 'MM-YYYY'), valor, situacao, customer_id
+FROM tbl_contas_legado;
+
+CREATE SEQUENCE tbl_contas_id_seq_particionada;
+SELECT setval('tbl_contas_id_seq_particionada', coalesce((SELECT max(id) FROM tbl_contas_legado), 0) + 1, false);
+
+DROP TABLE tbl_contas_legado;
+
+ALTER SEQUENCE tbl_contas_id_seq_particionada RENAME TO tbl_contas_id_seq;
+ALTER TABLE tbl_contas ALTER COLUMN id SET DEFAULT nextval('tbl_contas_id_seq');
+-- Mantém pg_get_serial_sequence('tbl_contas', 'id') válido para a reserva de IDs em lote.
+ALTER SEQUENCE tbl_contas_id_seq OWNED BY tbl_contas.id;
+
+-- Índices das versões anteriores, agora criados em todas as partições.
+CREATE INDEX idx_tbl_contas_customer_situacao ON tbl_contas (customer_id, situacao);
+CREATE INDEX idx_tbl_contas_customer_referencia ON tbl_contas (customer_id, referencia);
+CREATE INDEX idx_tbl_contas_customer_last_modified ON tbl_contas (customer_id, last_modified_date);
+
+ANALYZE tbl_contas;
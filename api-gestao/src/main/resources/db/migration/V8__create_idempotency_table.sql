@@ -0,0 +1,15 @@
+-- Respostas guardadas por Idempotency-Key para o store jdbc (api-gestao.idempotency.store=jdbc).
+-- status nulo indica requisição em andamento; expira_em é o prazo da reserva enquanto em
+-- andamento e o prazo de retenção depois que a resposta é gravada.
+CREATE TABLE IF NOT EXISTS tbl_idempotencia (
+    chave        VARCHAR(255)  PRIMARY KEY,
+    fingerprint  VARCHAR(64)   NOT NULL,
+    status       INTEGER,
+    content_type VARCHAR(255),
+    location     VARCHAR(2048),
+    corpo        BYTEA,
+    criado_em    TIMESTAMP(6)  NOT NULL,
+    expira_em    TIMESTAMP(6)  NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_tbl_idempotencia_expira_em ON tbl_idempotencia (expira_em);
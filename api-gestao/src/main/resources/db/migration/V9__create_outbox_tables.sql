@@ -0,0 +1,20 @@
+-- Outbox transacional: eventos de clientes e contas gravados na mesma transação da alteração.
+-- O relay publica em ordem de id e guarda em tbl_outbox_relay o último id publicado.
+CREATE TABLE IF NOT EXISTS tbl_outbox (
+    id           BIGSERIAL    PRIMARY KEY,
+    tipo_evento  VARCHAR(40)  NOT NULL,
+    agregado_id  BIGINT       NOT NULL,
+    customer_id  BIGINT       NOT NULL,
+    payload      JSONB,
+    created_date TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS tbl_outbox_relay (
+    nome               VARCHAR(50)  PRIMARY KEY,
+    ultimo_id          BIGINT       NOT NULL,
+    last_modified_date TIMESTAMP(6) NOT NULL
+);
+
+INSERT INTO tbl_outbox_relay (nome, ultimo_id, last_modified_date)
+VALUES ('default', 0, now())
+ON CONFLICT (nome) DO NOTHING;
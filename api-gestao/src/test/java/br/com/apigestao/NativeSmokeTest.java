@@ -0,0 +1,163 @@
+package br.com.apigestao;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+    Smoke test do executável nativo (./mvnw test -Pnative-smoke, após ./mvnw -Pnative package).
+    Sobe o binário contra um PostgreSQL local do Testcontainers e percorre o fluxo CRUD de clientes
+    e contas pela API, como um cliente HTTP faria.
+*/
+@Tag("native")
+@EnabledIfSystemProperty(named = "native.executable", matches = ".+")
+@Testcontainers(disabledWithoutDocker = true)
+class NativeSmokeTest {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(30);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @TempDir
+    static Path workingDirectory;
+
+    private static Process process;
+    private static String baseUrl;
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    @BeforeAll
+    static void startNativeExecutable() throws Exception {
+        Path executable = Path.of(System.getProperty("native.executable"));
+        assertTrue(Files.isExecutable(executable), () -> executable + " não encontrado; gere com -Pnative");
+
+        int port = freePort();
+        baseUrl = "http://localhost:" + port;
+        process = new ProcessBuilder(List.of(
+                executable.toString(),
+                "--server.port=" + port,
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword()))
+                .directory(workingDirectory.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(workingDirectory.resolve("native.log").toFile())
+                .start();
+        awaitHealthy();
+    }
+
+    @AfterAll
+    static void stopNativeExecutable() throws InterruptedException {
+        if (process != null) {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    @Test
+    @DisplayName("Native executable should serve the full customer and account CRUD flow")
+    void crudFlow_shouldWorkAgainstNativeExecutable() throws Exception {
+        HttpResponse<String> created = send("POST", "/api/v1/clientes",
+                "{\"name\":\"João Nativo\",\"cpf\":\"21225491061\",\"email\":\"joao.nativo@email.com\"}");
+        assertEquals(201, created.statusCode(), created.body());
+        String customerPath = URI.create(created.headers().firstValue("Location").orElseThrow()).getPath();
+
+        HttpResponse<String> listed = send("GET", "/api/v1/clientes?cpf=21225491061", null);
+        assertEquals(200, listed.statusCode(), listed.body());
+        assertTrue(listed.body().contains("João Nativo"), listed.body());
+
+        HttpResponse<String> updated = send("PUT", customerPath, "{\"phone\":\"11988887777\"}");
+        assertEquals(200, updated.statusCode(), updated.body());
+        assertTrue(updated.body().contains("11988887777"), updated.body());
+
+        HttpResponse<String> account = send("POST", customerPath + "/contas",
+                "{\"reference\":\"06-2025\",\"value\":100.00,\"situation\":\"PENDENTE\"}");
+        assertEquals(201, account.statusCode(), account.body());
+        String accountId = account.headers().firstValue("Location").orElseThrow().replaceAll(".*/", "");
+
+        HttpResponse<String> accounts = send("GET", customerPath + "/contas?size=10", null);
+        assertEquals(200, accounts.statusCode(), accounts.body());
+        assertTrue(accounts.body().contains("06-2025"), accounts.body());
+
+        HttpResponse<String> updatedAccount = send("PUT", "/api/v1/contas/" + accountId, "{\"value\":300.00}");
+        assertEquals(200, updatedAccount.statusCode(), updatedAccount.body());
+        assertTrue(updatedAccount.body().contains("300"), updatedAccount.body());
+
+        assertEquals(204, send("PATCH", "/api/v1/contas/" + accountId, null).statusCode());
+        assertEquals(204, send("PATCH", customerPath, null).statusCode());
+
+        HttpResponse<String> other = send("POST", "/api/v1/clientes",
+                "{\"name\":\"Maria Nativa\",\"cpf\":\"52998224725\",\"email\":\"maria.nativa@email.com\"}");
+        assertEquals(201, other.statusCode(), other.body());
+        String otherPath = URI.create(other.headers().firstValue("Location").orElseThrow()).getPath();
+        assertEquals(204, send("DELETE", otherPath, null).statusCode());
+
+        HttpResponse<String> missing = send("PUT", "/api/v1/contas/999999", "{\"value\":1.00}");
+        assertEquals(404, missing.statusCode(), missing.body());
+        assertTrue(missing.body().contains("Conta não encontrada"), missing.body());
+    }
+
+    private HttpResponse<String> send(String method, String path, String body) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(10))
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body));
+        if (body != null) {
+            request.header("Content-Type", "application/json");
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static void awaitHealthy() throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest health = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health")).build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            assertTrue(process.isAlive(), () -> "Executável nativo encerrou na subida: " + log());
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                /* Porta ainda fechada */
+            }
+            Thread.sleep(50);
+        }
+        fail("Executável nativo não ficou disponível em " + STARTUP_TIMEOUT + ": " + log());
+    }
+
+    private static String log() {
+        try {
+            return Files.readString(workingDirectory.resolve("native.log"));
+        } catch (IOException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
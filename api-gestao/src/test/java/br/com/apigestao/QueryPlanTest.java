@@ -0,0 +1,282 @@
+package br.com.apigestao;
+
+import br.com.apigestao.core.KeysetCursor;
+import br.com.apigestao.domain.account.Account;
+import br.com.apigestao.domain.account.AccountRepository;
+import br.com.apigestao.domain.customer.Customer;
+import br.com.apigestao.domain.customer.CustomerDTO;
+import br.com.apigestao.domain.customer.CustomerRepository;
+import br.com.apigestao.domain.customer.CustomerSpecifications;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+    Executa as consultas reais dos repositórios sobre uma massa de dados e roda EXPLAIN em
+    cada SQL emitido pelo Hibernate com enable_seqscan=off. Se ainda assim o plano contém
+    um Seq Scan, nenhum índice atende a consulta.
+*/
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest
+class QueryPlanTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+    private static final Pattern SORT_NODE = Pattern.compile("(^|->)\\s*(Incremental )?Sort\\s+\\(", Pattern.MULTILINE);
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @TestConfiguration
+    static class QueryRecordingConfig {
+
+        @Bean
+        static BeanPostProcessor queryRecordingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource) {
+                        return ProxyDataSourceBuilder.create(dataSource)
+                                .listener(new RecordingListener())
+                                .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    static class RecordingListener implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            for (QueryInfo queryInfo : queryInfoList) {
+                String query = queryInfo.getQuery();
+                if (!query.trim().toLowerCase().startsWith("select")) {
+                    continue;
+                }
+                List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+                STATEMENTS.add(inlineParameters(query, parametersList.isEmpty() ? List.of() : parametersList.get(0)));
+            }
+        }
+    }
+
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("""
+                INSERT INTO tbl_clientes (created_date, last_modified_date, nome, cpf, email, telefone, enabled)
+                SELECT now(), now(), (ARRAY['Cliente ', 'João ', 'Conceição '])[(g % 3) + 1] || g,
+                       lpad(g::text, 11, '0'), 'cliente' || g || '@email.com',
+                       '119' || lpad(g::text, 8, '0'), g % 10 <> 0
+                FROM generate_series(1, 5000) g
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO tbl_contas (created_date, last_modified_date, referencia, periodo, valor, situacao,
+                                        customer_id)
+                SELECT now(), now(), r.referencia, to_date(r.referencia, 'MM-YYYY'), g % 500,
+                       (ARRAY['PENDENTE', 'PAGA', 'CANCELADA'])[(g % 3) + 1], (g % 5000) + 1
+                FROM generate_series(1, 50000) g
+                         CROSS JOIN LATERAL (SELECT lpad(((g % 12) + 1)::text, 2, '0') || '-2025' AS referencia) r
+                """);
+        jdbcTemplate.queryForObject("SELECT create_tbl_contas_partition(DATE '2025-06-01')", String.class);
+        jdbcTemplate.execute("ANALYZE tbl_clientes");
+        jdbcTemplate.execute("ANALYZE tbl_contas");
+    }
+
+    @BeforeEach
+    void clearStatements() {
+        STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("Customer uniqueness checks and lookups should be served by indexes")
+    void customerLookups_shouldNotPlanSequentialScans() throws Exception {
+        customerRepository.existsByCpf("00000000042");
+        customerRepository.existsByEmail("cliente42@email.com");
+        customerRepository.findById(42L);
+
+        assertNoSequentialScans();
+    }
+
+    @Test
+    @DisplayName("Customer search filters should be served by indexes")
+    void customerSearch_shouldNotPlanSequentialScans() throws Exception {
+        Specification<Customer> byPhone = (root, query, criteriaBuilder) ->
+                criteriaBuilder.equal(root.get("phone"), "11900000042");
+        Specification<Customer> byEnabled = (root, query, criteriaBuilder) ->
+                criteriaBuilder.equal(root.get("enabled"), true);
+
+        customerRepository.findAllAsDto(byPhone, PageRequest.of(0, 20));
+        customerRepository.findAllAsDto(byEnabled, PageRequest.of(0, 20, Sort.by("id")));
+
+        assertNoSequentialScans();
+    }
+
+    @Test
+    @DisplayName("Customer name search should use the trigram index and rank prefixes first")
+    void customerNameSearch_shouldUseTrigramIndex() throws Exception {
+        List<CustomerDTO> customers = customerRepository
+                .findAllAsDto(CustomerSpecifications.nameMatches("JOAO 42"), PageRequest.of(0, 20))
+                .getContent();
+
+        assertFalse(customers.isEmpty());
+        assertTrue(customers.get(0).name().startsWith("João 42"));
+        assertTrue(customers.stream().allMatch(customer -> customer.name().contains("42")));
+        assertNoSequentialScans();
+    }
+
+    @Test
+    @DisplayName("Account listing by customer should be served by indexes")
+    void accountsByCustomer_shouldNotPlanSequentialScans() throws Exception {
+        accountRepository.findDtoByCustomerId(42L, PageRequest.of(0, 20));
+
+        assertNoSequentialScans();
+    }
+
+    @Test
+    @DisplayName("Month-scoped account queries should only read the partition of that month")
+    void accountsByBillingPeriod_shouldPruneOtherPartitions() throws Exception {
+        accountRepository.findIdsByCustomerIdAndBillingPeriod(42L, LocalDate.of(2025, 6, 1));
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String sql : new ArrayList<>(STATEMENTS)) {
+                String plan = explain(statement, sql);
+                assertTrue(plan.contains("tbl_contas_2025_06"), () -> "Partição do mês não consultada:\n" + plan);
+                assertFalse(plan.contains("tbl_contas_padrao"), () -> "Partições não foram podadas:\n" + plan);
+            }
+        }
+        assertNoSequentialScans();
+    }
+
+    @Test
+    @DisplayName("Keyset scrolls should read rows in index order for every supported sort")
+    void keysetScrolls_shouldNotPlanSorts() throws Exception {
+        Customer customer = customerRepository.findById(42L).orElseThrow();
+        Specification<Account> byCustomer = (root, query, criteriaBuilder) ->
+                criteriaBuilder.equal(root.get("customer"), customer);
+        Specification<Customer> allCustomers = (root, query, criteriaBuilder) -> null;
+
+        for (String property : List.of("id", "createdDate", "lastModifiedDate")) {
+            Sort sort = KeysetCursor.resolveSort(Sort.by(Sort.Direction.DESC, property));
+            Window<Account> accounts = accountRepository.findBy(byCustomer,
+                    query -> query.sortBy(sort).limit(5).scroll(ScrollPosition.keyset()));
+            accountRepository.findBy(byCustomer,
+                    query -> query.sortBy(sort).limit(5).scroll(accounts.positionAt(accounts.size() - 1)));
+            Window<Customer> customers = customerRepository.findBy(allCustomers,
+                    query -> query.sortBy(sort).limit(5).scroll(ScrollPosition.keyset()));
+            customerRepository.findBy(allCustomers,
+                    query -> query.sortBy(sort).limit(5).scroll(customers.positionAt(customers.size() - 1)));
+        }
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String sql : new ArrayList<>(STATEMENTS)) {
+                String plan = explain(statement, sql);
+                assertFalse(SORT_NODE.matcher(plan).find(), () -> "Página ordenada fora do índice:\n" + sql + "\n" + plan);
+            }
+        }
+        assertNoSequentialScans();
+    }
+
+    private void assertNoSequentialScans() throws Exception {
+        List<String> statements = new ArrayList<>(STATEMENTS);
+        assertFalse(statements.isEmpty(), "Nenhuma consulta foi registrada");
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+            try {
+                for (String sql : statements) {
+                    String plan = explain(statement, sql);
+                    assertFalse(plan.contains("Seq Scan"), () -> "Consulta sem índice:\n" + sql + "\n" + plan);
+                }
+            } finally {
+                statement.execute("RESET enable_seqscan");
+            }
+        }
+    }
+
+    private static String explain(Statement statement, String sql) throws Exception {
+        StringBuilder plan = new StringBuilder();
+        try (ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+
+    private static String inlineParameters(String sql, List<ParameterSetOperation> operations) {
+        List<ParameterSetOperation> ordered = new ArrayList<>(operations);
+        ordered.sort(Comparator.comparingInt(operation -> (Integer) operation.getArgs()[0]));
+
+        StringBuilder inlined = new StringBuilder();
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?' && parameter < ordered.size()) {
+                inlined.append(toLiteral(ordered.get(parameter++)));
+            } else {
+                inlined.append(c);
+            }
+        }
+        return inlined.toString();
+    }
+
+    private static String toLiteral(ParameterSetOperation operation) {
+        if ("setNull".equals(operation.getMethod().getName())) {
+            return "NULL";
+        }
+        Object value = operation.getArgs()[1];
+        if (value instanceof Number || value instanceof Boolean) {
+            return value.toString();
+        }
+        return "'" + String.valueOf(value).replace("'", "''") + "'";
+    }
+}
@@ -0,0 +1,120 @@
+package br.com.apigestao;
+
+import br.com.apigestao.infrastructure.sql.SqlStatementBudget;
+import br.com.apigestao.infrastructure.sql.SqlStatisticsResponseAdvice;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/*
+    Executa os endpoints com @SqlStatementBudget contra um banco real com o modo de falha ativo.
+    Um N+1 (por exemplo, carregar o cliente de cada conta) ultrapassa o orçamento e a requisição
+    retorna 500 com a mensagem de orçamento excedido.
+*/
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "api-gestao.sql-statistics.enabled=true",
+        "api-gestao.sql-statistics.fail-on-budget-exceeded=true"
+})
+@AutoConfigureMockMvc
+class SqlStatementBudgetTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("""
+                INSERT INTO tbl_clientes (created_date, last_modified_date, nome, cpf, email, telefone, enabled)
+                SELECT now(), now(), 'Cliente ' || g, lpad(g::text, 11, '0'), 'cliente' || g || '@email.com',
+                       '119' || lpad(g::text, 8, '0'), true
+                FROM generate_series(1, 5) g
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO tbl_contas (created_date, last_modified_date, referencia, periodo, valor, situacao,
+                                        customer_id)
+                SELECT now(), now(), r.referencia, to_date(r.referencia, 'MM-YYYY'), g,
+                       (ARRAY['PENDENTE', 'PAGA'])[(g % 2) + 1], (g % 5) + 1
+                FROM generate_series(1, 100) g
+                         CROSS JOIN LATERAL (SELECT lpad(((g % 12) + 1)::text, 2, '0') || '-2025' AS referencia) r
+                """);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/api/v1/clientes?size=5",
+            "/api/v1/clientes/scroll?size=5",
+            "/api/v1/clientes/1/contas?size=10",
+            "/api/v1/clientes/2/contas/scroll?size=10",
+            "/api/v1/clientes/3/contas/resumo?groupByReference=true",
+            "/api/v1/contas/resumo"
+    })
+    @DisplayName("Read endpoints should stay within their declared SQL statement budget")
+    void readEndpoints_shouldStayWithinStatementBudget(String uri) throws Exception {
+        assertWithinBudget(get(uri));
+    }
+
+    @Test
+    @DisplayName("Account update should stay within its declared SQL statement budget")
+    void updateAccount_shouldStayWithinStatementBudget() throws Exception {
+        assertWithinBudget(put("/api/v1/contas/2")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"value\": 300.00}"));
+    }
+
+    @Test
+    @DisplayName("Every GET endpoint returning a body should declare a SQL statement budget")
+    void getEndpoints_shouldDeclareStatementBudget() {
+        handlerMapping.getHandlerMethods().forEach((info, handlerMethod) -> {
+            boolean applicationEndpoint = handlerMethod.getBeanType().getPackageName().startsWith("br.com.apigestao");
+            boolean get = info.getMethodsCondition().getMethods().contains(RequestMethod.GET);
+            boolean hasBody = ResponseEntity.class.isAssignableFrom(handlerMethod.getMethod().getReturnType());
+            if (applicationEndpoint && get && hasBody) {
+                assertTrue(handlerMethod.hasMethodAnnotation(SqlStatementBudget.class),
+                        () -> handlerMethod + " não declara @SqlStatementBudget");
+            }
+        });
+    }
+
+    private void assertWithinBudget(RequestBuilder request) throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(request).andReturn().getResponse();
+
+        assertEquals(200, response.getStatus(), response.getContentAsString());
+        String statements = response.getHeader(SqlStatisticsResponseAdvice.STATEMENTS_HEADER);
+        String budget = response.getHeader(SqlStatisticsResponseAdvice.BUDGET_HEADER);
+        assertNotNull(statements);
+        assertNotNull(budget);
+        assertTrue(Integer.parseInt(statements) <= Integer.parseInt(budget),
+                () -> statements + " comandos para um orçamento de " + budget);
+    }
+}
@@ -0,0 +1,183 @@
+package br.com.apigestao;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+    Teste de carga executado sob demanda (./mvnw test -Pload-test). Sobe a aplicação duas vezes
+    contra o mesmo banco, uma com threads de plataforma e outra com o perfil vthreads, e dispara
+    a mesma carga de leitura com alta concorrência, reportando vazão e latência de cada modo.
+*/
+@Tag("load")
+@Testcontainers(disabledWithoutDocker = true)
+class ThreadModeLoadTest {
+
+    private static final int CUSTOMERS = 50;
+    private static final int ACCOUNTS_PER_CUSTOMER = 40;
+    private static final int CONCURRENCY = 1000;
+    private static final int WARMUP_REQUESTS = 2_000;
+    private static final int REQUESTS = 20_000;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    record Result(String mode, long elapsedMillis, int errors, long[] latenciesMicros) {
+
+        double throughput() {
+            return latenciesMicros.length * 1000.0 / elapsedMillis;
+        }
+
+        long percentile(double percentile) {
+            long[] sorted = latenciesMicros.clone();
+            Arrays.sort(sorted);
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)] / 1000;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-9s %10.1f req/s   p50=%4d ms   p99=%5d ms   erros=%d",
+                    mode, throughput(), percentile(0.50), percentile(0.99), errors);
+        }
+    }
+
+    @Test
+    @DisplayName("Should report throughput of platform and virtual thread modes under high concurrency")
+    void compareThreadModes() throws Exception {
+        Result platform = runScenario(false);
+        Result virtual = runScenario(true);
+
+        System.out.println("Concorrência: " + CONCURRENCY + ", requisições: " + REQUESTS);
+        System.out.println(platform);
+        System.out.println(virtual);
+
+        assertEquals(0, platform.errors(), "Falhas no modo de threads de plataforma");
+        assertEquals(0, virtual.errors(), "Falhas no modo de threads virtuais");
+    }
+
+    private Result runScenario(boolean virtualThreads) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(ApiGestaoApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "api-gestao.admission.enabled=false");
+        if (virtualThreads) {
+            builder.profiles("vthreads");
+        }
+
+        try (ConfigurableApplicationContext context = builder.run()) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            seedIfEmpty(baseUrl);
+            fire(baseUrl, WARMUP_REQUESTS);
+            long start = System.nanoTime();
+            Result result = fire(baseUrl, REQUESTS);
+            long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+            return new Result(virtualThreads ? "virtual" : "platform", elapsedMillis, result.errors(),
+                    result.latenciesMicros());
+        }
+    }
+
+    private void seedIfEmpty(String baseUrl) throws Exception {
+        HttpResponse<String> existing = httpClient.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/clientes?size=1")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (existing.body().contains("\"totalElements\":" + CUSTOMERS)) {
+            return;
+        }
+        for (int c = 1; c <= CUSTOMERS; c++) {
+            String customer = String.format("{\"name\":\"Cliente Carga\",\"cpf\":\"%s\",\"email\":\"carga%d@email.com\"}",
+                    validCpf(c), c);
+            post(baseUrl + "/api/v1/clientes", customer);
+            for (int a = 0; a < ACCOUNTS_PER_CUSTOMER; a++) {
+                post(baseUrl + "/api/v1/clientes/" + c + "/contas",
+                        "{\"reference\":\"06-2025\",\"value\":100.00,\"situation\":\"PENDENTE\"}");
+            }
+        }
+    }
+
+    private void post(String url, String body) throws Exception {
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(201, response.statusCode(), response.body());
+    }
+
+    private Result fire(String baseUrl, int requests) throws Exception {
+        long[] latencies = new long[requests];
+        AtomicInteger errors = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                int index = i;
+                inFlight.acquire();
+                executor.submit(() -> {
+                    String path = index % 2 == 0
+                            ? "/api/v1/clientes/" + (index % CUSTOMERS + 1) + "/contas?size=20"
+                            : "/api/v1/clientes?enabled=true&size=20";
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = httpClient.send(
+                                HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build(),
+                                HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    } finally {
+                        latencies[index] = (System.nanoTime() - start) / 1000;
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return new Result("", 0, errors.get(), latencies);
+    }
+
+    private static String validCpf(int seed) {
+        int[] digits = new int[11];
+        String base = String.format("%09d", 100_000_000 + seed);
+        for (int i = 0; i < 9; i++) {
+            digits[i] = base.charAt(i) - '0';
+        }
+        for (int check = 9; check < 11; check++) {
+            int sum = 0;
+            for (int i = 0; i < check; i++) {
+                sum += digits[i] * (check + 1 - i);
+            }
+            int remainder = (sum * 10) % 11;
+            digits[check] = remainder == 10 ? 0 : remainder;
+        }
+        StringBuilder cpf = new StringBuilder();
+        for (int digit : digits) {
+            cpf.append(digit);
+        }
+        return cpf.toString();
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.apigestao.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeMarkerTest {
+
+    private static final LocalDateTime LAST_MODIFIED = LocalDateTime.of(2025, 6, 1, 10, 30, 15, 123_456_000);
+
+    @Test
+    @DisplayName("Should produce the same ETag for the same count and last modification")
+    void eTag_whenMarkersAreEqual_thenReturnSameValue() {
+        assertEquals(new ChangeMarker(3L, LAST_MODIFIED).eTag(), new ChangeMarker(3L, LAST_MODIFIED).eTag());
+    }
+
+    @Test
+    @DisplayName("Should change the ETag when a record is added or removed")
+    void eTag_whenCountChanges_thenReturnDifferentValue() {
+        assertNotEquals(new ChangeMarker(3L, LAST_MODIFIED).eTag(), new ChangeMarker(4L, LAST_MODIFIED).eTag());
+    }
+
+    @Test
+    @DisplayName("Should change the ETag when a record is updated within the same second")
+    void eTag_whenLastModifiedChangesBySubSecond_thenReturnDifferentValue() {
+        assertNotEquals(new ChangeMarker(3L, LAST_MODIFIED).eTag(),
+                new ChangeMarker(3L, LAST_MODIFIED.plusNanos(1_000)).eTag());
+    }
+
+    @Test
+    @DisplayName("Should not expose Last-Modified for an empty collection")
+    void lastModifiedMillis_whenCollectionIsEmpty_thenReturnNegative() {
+        ChangeMarker marker = new ChangeMarker(0L, null);
+
+        assertEquals(-1, marker.lastModifiedMillis());
+        assertEquals("0-0", marker.eTag());
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.apigestao.core;
+
+import br.com.apigestao.domain.exceptions.InvalidException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("Should append id as tie breaker when sorting by a non unique property")
+    void resolveSort_whenSortingByCreatedDate_thenAppendIdWithSameDirection() {
+        Sort sort = KeysetCursor.resolveSort(Sort.by(Sort.Direction.DESC, "createdDate"));
+
+        assertEquals(List.of(Sort.Order.desc("createdDate"), Sort.Order.desc("id")), sort.toList());
+    }
+
+    @Test
+    @DisplayName("Should sort by id ascending when no sort is provided")
+    void resolveSort_whenSortIsUnsorted_thenSortById() {
+        Sort sort = KeysetCursor.resolveSort(Sort.unsorted());
+
+        assertEquals(List.of(Sort.Order.asc("id")), sort.toList());
+    }
+
+    @Test
+    @DisplayName("Should throw InvalidException when sorting by an unsupported property")
+    void resolveSort_whenPropertyIsNotSupported_thenThrowInvalidException() {
+        InvalidException exception = assertThrows(InvalidException.class,
+                () -> KeysetCursor.resolveSort(Sort.by("name")));
+
+        assertEquals(400, exception.getHttpStatus().value());
+    }
+
+    @Test
+    @DisplayName("Should accept sizes up to the configured page size limit and reject larger ones")
+    void resolveSize_whenAboveMaxPageSize_thenThrowInvalidException() {
+        assertEquals(100, KeysetCursor.resolveSize(100, 100));
+        assertThrows(InvalidException.class, () -> KeysetCursor.resolveSize(101, 100));
+        assertThrows(InvalidException.class, () -> KeysetCursor.resolveSize(0, 100));
+    }
+
+    @Test
+    @DisplayName("Should return initial position when cursor is absent")
+    void decode_whenCursorIsNull_thenReturnInitialPosition() {
+        KeysetScrollPosition position = KeysetCursor.decode(null, KeysetCursor.resolveSort(Sort.unsorted()));
+
+        assertTrue(position.isInitial());
+    }
+
+    @Test
+    @DisplayName("Should encode last row keys and decode them back with their original types")
+    void encode_whenWindowHasNext_thenCursorRoundTrips() {
+        Sort sort = KeysetCursor.resolveSort(Sort.by("createdDate"));
+        LocalDateTime createdDate = LocalDateTime.of(2025, 6, 1, 10, 30, 15);
+        Window<String> window = Window.from(List.of("a", "b"),
+                index -> ScrollPosition.forward(Map.of("createdDate", createdDate, "id", 10L + index)), true);
+
+        String cursor = KeysetCursor.encode(window, sort);
+        KeysetScrollPosition position = KeysetCursor.decode(cursor, sort);
+
+        assertNotNull(cursor);
+        assertEquals(createdDate, position.getKeys().get("createdDate"));
+        assertEquals(11L, position.getKeys().get("id"));
+    }
+
+    @Test
+    @DisplayName("Should not emit cursor on the last window")
+    void encode_whenWindowHasNoNext_thenReturnNull() {
+        Sort sort = KeysetCursor.resolveSort(Sort.unsorted());
+        Window<String> window = Window.from(List.of("a"), index -> ScrollPosition.forward(Map.of("id", 1L)), false);
+
+        assertNull(KeysetCursor.encode(window, sort));
+    }
+
+    @Test
+    @DisplayName("Should throw InvalidException when cursor is malformed")
+    void decode_whenCursorIsMalformed_thenThrowInvalidException() {
+        Sort sort = KeysetCursor.resolveSort(Sort.by("createdDate"));
+
+        assertThrows(InvalidException.class, () -> KeysetCursor.decode("bm90LWEtY3Vyc29y", sort));
+        assertThrows(InvalidException.class, () -> KeysetCursor.decode("%%%", sort));
+    }
+}
@@ -0,0 +1,142 @@
+package br.com.apigestao.domain.account;
+
+import br.com.apigestao.domain.account.factories.AccountDTOFactory;
+import br.com.apigestao.domain.customer.CustomerService;
+import br.com.apigestao.domain.exceptions.InvalidException;
+import br.com.apigestao.infrastructure.outbox.ChangeEventType;
+import br.com.apigestao.infrastructure.outbox.OutboxWriter;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountBatchServiceTest {
+
+    @InjectMocks
+    private AccountBatchService accountBatchService;
+
+    @Mock
+    private AccountBatchRepository accountBatchRepository;
+
+    @Mock
+    private CustomerService customerService;
+
+    @Spy
+    private AccountMapper accountMapper = new AccountMapperImpl();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    private OutboxWriter outboxWriter;
+
+    private static AccountDTO newAccountDto(Long customerId, BigDecimal value, String situation) {
+        return new AccountDTO(null, "06-2025", value, customerId, situation, null, null);
+    }
+
+    @Test
+    @DisplayName("Should insert valid accounts and report each rejected row separately")
+    void createAccounts_whenSomeRowsAreInvalid_thenInsertValidRowsAndRejectOthers() {
+        List<AccountDTO> accountDTOs = List.of(
+                newAccountDto(1L, BigDecimal.TEN, "PENDENTE"),
+                newAccountDto(99L, BigDecimal.TEN, "PENDENTE"),
+                newAccountDto(2L, BigDecimal.valueOf(-1), "PAGA"),
+                newAccountDto(2L, BigDecimal.ONE, "CANCELADA"),
+                newAccountDto(2L, BigDecimal.ONE, "paga")
+        );
+
+        when(customerService.findExistingIds(Set.of(1L, 2L, 99L))).thenReturn(Set.of(1L, 2L));
+        doAnswer(invocation -> {
+            List<Account> accounts = invocation.getArgument(0);
+            long id = 100L;
+            for (Account account : accounts) {
+                account.setId(id++);
+            }
+            return null;
+        }).when(accountBatchRepository).insertAll(anyList());
+
+        List<AccountBatchResultDTO> results = accountBatchService.createAccounts(accountDTOs);
+
+        verify(customerService, times(1)).findExistingIds(any());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Account>> captor = ArgumentCaptor.forClass(List.class);
+        verify(accountBatchRepository, times(1)).insertAll(captor.capture());
+        assertEquals(2, captor.getValue().size());
+        assertEquals(Situation.PAGA, captor.getValue().get(1).getSituation());
+
+        assertEquals(5, results.size());
+        assertEquals(201, results.get(0).status());
+        assertEquals(100L, results.get(0).id());
+        assertEquals(404, results.get(1).status());
+        assertEquals("Cliente não encontrado", results.get(1).message());
+        assertEquals(400, results.get(2).status());
+        assertEquals("O valor da conta não pode ser negativo", results.get(2).message());
+        assertEquals(400, results.get(3).status());
+        assertEquals("Não é possível criar uma conta com esta situação", results.get(3).message());
+        assertEquals(201, results.get(4).status());
+        assertEquals(101L, results.get(4).id());
+        assertEquals(2L, results.get(4).customerId());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AccountDTO>> events = ArgumentCaptor.forClass(List.class);
+        verify(outboxWriter).appendAll(eq(ChangeEventType.ACCOUNT_CREATED), events.capture(), any(), any());
+        assertEquals(List.of(100L, 101L), events.getValue().stream().map(AccountDTO::id).toList());
+        assertEquals(List.of(1L, 2L), events.getValue().stream().map(AccountDTO::customerId).toList());
+    }
+
+    @Test
+    @DisplayName("Should reject row when customer id is missing")
+    void createAccounts_whenCustomerIdIsMissing_thenRejectRow() {
+        List<AccountDTO> accountDTOs = new ArrayList<>();
+        accountDTOs.add(AccountDTOFactory.savedAccountDto());
+        accountDTOs.add(newAccountDto(null, BigDecimal.TEN, "PENDENTE"));
+
+        when(customerService.findExistingIds(Set.of(AccountDTOFactory.DEFAULT_CUSTOMER_ID))).thenReturn(Set.of());
+
+        List<AccountBatchResultDTO> results = accountBatchService.createAccounts(accountDTOs);
+
+        assertEquals(400, results.get(0).status());
+        assertEquals(400, results.get(1).status());
+        assertEquals("O ID do cliente não pode ser nulo", results.get(1).message());
+        verify(accountBatchRepository, times(1)).insertAll(Collections.emptyList());
+    }
+
+    @Test
+    @DisplayName("Should throw InvalidException when batch is empty")
+    void createAccounts_whenBatchIsEmpty_thenThrowInvalidException() {
+        InvalidException exception = assertThrows(InvalidException.class,
+                () -> accountBatchService.createAccounts(List.of()));
+
+        assertEquals("A lista de contas não pode ser vazia", exception.getMessage());
+        verifyNoInteractions(accountBatchRepository, customerService);
+    }
+
+    @Test
+    @DisplayName("Should throw InvalidException when batch exceeds the maximum size")
+    void createAccounts_whenBatchIsTooLarge_thenThrowInvalidException() {
+        List<AccountDTO> accountDTOs = Collections.nCopies(AccountBatchService.MAX_BATCH_SIZE + 1,
+                newAccountDto(1L, BigDecimal.TEN, "PENDENTE"));
+
+        assertThrows(InvalidException.class, () -> accountBatchService.createAccounts(accountDTOs));
+
+        verifyNoInteractions(accountBatchRepository, customerService);
+    }
+}
@@ -0,0 +1,97 @@
+package br.com.apigestao.domain.account;
+
+import br.com.apigestao.domain.customer.CustomerService;
+import br.com.apigestao.domain.exceptions.InvalidException;
+import br.com.apigestao.domain.exceptions.NotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountExportServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 10, 0);
+
+    @InjectMocks
+    private AccountExportService accountExportService;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private CustomerService customerService;
+
+    @Spy
+    private ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private static AccountExportRow row(Long id, String reference) {
+        return new AccountExportRow(id, 1L, reference, BigDecimal.valueOf(250.5), Situation.PENDENTE, NOW, NOW);
+    }
+
+    @Test
+    @DisplayName("Should stream customer accounts as CSV with header")
+    void exportAccounts_whenFormatIsCsv_thenWriteHeaderAndRows() throws Exception {
+        StringWriter writer = new StringWriter();
+        when(accountRepository.streamExportByCustomerId(1L))
+                .thenReturn(Stream.of(row(1L, "06-2025"), row(2L, "07,2025")));
+
+        long rows = accountExportService.exportAccounts(1L, AccountExportFormat.CSV, () -> writer);
+
+        verify(customerService, times(1)).findById(1L);
+        assertEquals(2, rows);
+        assertEquals("""
+                id,customerId,reference,value,situation,createdDate,lastModifiedDate
+                1,1,06-2025,250.5,PENDENTE,2025-06-01T10:00,2025-06-01T10:00
+                2,1,"07,2025",250.5,PENDENTE,2025-06-01T10:00,2025-06-01T10:00
+                """, writer.toString());
+    }
+
+    @Test
+    @DisplayName("Should stream all accounts as one JSON document per line")
+    void exportAccounts_whenFormatIsNdjson_thenWriteOneJsonPerLine() throws Exception {
+        StringWriter writer = new StringWriter();
+        when(accountRepository.streamExportAll()).thenReturn(Stream.of(row(1L, "06-2025")));
+
+        accountExportService.exportAccounts(null, AccountExportFormat.NDJSON, () -> writer);
+
+        verifyNoInteractions(customerService);
+        assertEquals("{\"id\":1,\"customerId\":1,\"reference\":\"06-2025\",\"value\":250.5,\"situation\":\"PENDENTE\"," +
+                "\"createdDate\":\"2025-06-01T10:00:00\",\"lastModifiedDate\":\"2025-06-01T10:00:00\"}\n",
+                writer.toString());
+    }
+
+    @Test
+    @DisplayName("Should not open the output when customer does not exist")
+    void exportAccounts_whenCustomerNotFound_thenThrowBeforeWriting() {
+        when(customerService.findById(1L)).thenThrow(new NotFoundException("Cliente não encontrado"));
+
+        assertThrows(NotFoundException.class, () -> accountExportService.exportAccounts(1L, AccountExportFormat.CSV,
+                () -> fail("A saída não deveria ser aberta")));
+
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown export formats")
+    void from_whenFormatIsUnknown_thenThrowInvalidException() {
+        assertEquals(AccountExportFormat.NDJSON, AccountExportFormat.from("ndjson"));
+        assertThrows(InvalidException.class, () -> AccountExportFormat.from("xml"));
+    }
+}
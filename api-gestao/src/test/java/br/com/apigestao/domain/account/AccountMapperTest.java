@@ -9,6 +9,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -101,6 +102,15 @@ class AccountMapperTest {
         assertAccountDtoEqualsAccount(accountDtoPage.getContent().get(0), accountPage.getContent().get(0));
     }
 
+    @Test
+    @DisplayName("Should derive the billing period from the reference when mapping to entity")
+    void toEntity_whenReferenceProvided_thenDeriveBillingPeriod() {
+        AccountDTO accountDto = AccountDTOFactory.savedAccountDto(1L, "11-2025", BigDecimal.TEN, 2L, "PAGA");
+        Account account = accountMapper.toEntity(accountDto);
+
+        assertEquals(LocalDate.of(2025, 11, 1), account.getBillingPeriod());
+    }
+
     private void assertAccountDtoEqualsAccount(AccountDTO accountDto, Account account) {
         assertEquals(accountDto.id(), account.getId());
         assertEquals(accountDto.reference(), account.getReference());
@@ -0,0 +1,90 @@
+package br.com.apigestao.domain.account;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountPartitionMaintenanceTest {
+
+    private static final String LOCK_SQL = "SELECT pg_try_advisory_xact_lock(?, 0)";
+    private static final String CREATE_PARTITION_SQL = "SELECT create_tbl_contas_partition(?)";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AccountPartitionMaintenance maintenance;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        maintenance = new AccountPartitionMaintenance(jdbcTemplate, transactionManager, 2);
+    }
+
+    @Test
+    @DisplayName("Should create the current and upcoming partitions while holding the maintenance lock")
+    void createUpcomingPartitions_whenLockIsAcquired_thenCreateEveryMonth() {
+        when(jdbcTemplate.queryForObject(LOCK_SQL, Boolean.class, AccountPartitionMaintenance.PARTITION_LOCK_NAMESPACE))
+                .thenReturn(true);
+        when(jdbcTemplate.queryForObject(eq(CREATE_PARTITION_SQL), eq(String.class), any(LocalDate.class)))
+                .thenReturn("tbl_contas_2025_06");
+
+        maintenance.createUpcomingPartitions();
+
+        verify(jdbcTemplate, times(3)).queryForObject(eq(CREATE_PARTITION_SQL), eq(String.class), any(LocalDate.class));
+    }
+
+    @Test
+    @DisplayName("Should skip maintenance when another instance holds the lock")
+    void createUpcomingPartitions_whenLockIsHeldElsewhere_thenCreateNothing() {
+        when(jdbcTemplate.queryForObject(LOCK_SQL, Boolean.class, AccountPartitionMaintenance.PARTITION_LOCK_NAMESPACE))
+                .thenReturn(false);
+
+        maintenance.createUpcomingPartitions();
+
+        verify(jdbcTemplate, never()).queryForObject(eq(CREATE_PARTITION_SQL), eq(String.class), any(LocalDate.class));
+    }
+
+    @Test
+    @DisplayName("Should treat a partition created concurrently as success and continue")
+    void createUpcomingPartitions_whenPartitionAlreadyExists_thenContinue() {
+        when(jdbcTemplate.queryForObject(LOCK_SQL, Boolean.class, AccountPartitionMaintenance.PARTITION_LOCK_NAMESPACE))
+                .thenReturn(true);
+        when(jdbcTemplate.queryForObject(eq(CREATE_PARTITION_SQL), eq(String.class), any(LocalDate.class)))
+                .thenThrow(new BadSqlGrammarException("partição", CREATE_PARTITION_SQL,
+                        new SQLException("relation already exists", "42P07")))
+                .thenReturn("tbl_contas_2025_07");
+
+        assertDoesNotThrow(() -> maintenance.createUpcomingPartitions());
+        verify(jdbcTemplate, times(3)).queryForObject(eq(CREATE_PARTITION_SQL), eq(String.class), any(LocalDate.class));
+    }
+
+    @Test
+    @DisplayName("Should propagate other database errors")
+    void createUpcomingPartitions_whenOtherError_thenThrow() {
+        when(jdbcTemplate.queryForObject(LOCK_SQL, Boolean.class, AccountPartitionMaintenance.PARTITION_LOCK_NAMESPACE))
+                .thenReturn(true);
+        when(jdbcTemplate.queryForObject(eq(CREATE_PARTITION_SQL), eq(String.class), any(LocalDate.class)))
+                .thenThrow(new BadSqlGrammarException("partição", CREATE_PARTITION_SQL,
+                        new SQLException("permission denied", "42501")));
+
+        assertThrows(BadSqlGrammarException.class, () -> maintenance.createUpcomingPartitions());
+    }
+}
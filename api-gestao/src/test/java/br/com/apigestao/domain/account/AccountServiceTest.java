@@ -1,5 +1,6 @@
 package br.com.apigestao.domain.account;
 
+import br.com.apigestao.core.ChangeMarker;
 import br.com.apigestao.domain.customer.Customer;
 import br.com.apigestao.domain.customer.CustomerService;
 import br.com.apigestao.domain.customer.factories.CustomerFactory;
@@ -7,18 +8,22 @@ import br.com.apigestao.domain.account.factories.AccountFactory;
 import br.com.apigestao.domain.exceptions.InvalidException;
 import br.com.apigestao.domain.exceptions.NotFoundException;
 import br.com.apigestao.domain.exceptions.UnauthorizedException;
+import br.com.apigestao.infrastructure.outbox.ChangeEventType;
+import br.com.apigestao.infrastructure.outbox.OutboxWriter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -33,9 +38,18 @@ class AccountServiceTest {
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private AccountTransitionRepository accountTransitionRepository;
+
     @Mock
     private CustomerService customerService;
 
+    @Mock
+    private AccountMapper accountMapper;
+
+    @Mock
+    private OutboxWriter outboxWriter;
+
     @Test
     @DisplayName("Should create account successfully when account and customer are valid")
     void createAccount_whenAccountIsValid_thenCreateSuccessfully() {
@@ -50,6 +64,8 @@ class AccountServiceTest {
 
         verify(customerService, times(1)).findById(customerId);
         verify(accountRepository, times(1)).save(account);
+        verify(outboxWriter, times(1)).append(eq(ChangeEventType.ACCOUNT_CREATED), eq(account.getId()),
+                eq(customerId), any());
 
         assertNotNull(createdAccount);
         assertEquals(account.getReference(), createdAccount.getReference());
@@ -110,83 +126,247 @@ class AccountServiceTest {
     void findAccountsByCustomerId_whenAccountsExist_thenReturnPageOfAccounts() {
         Long customerId = 1L;
         Pageable pageable = Pageable.ofSize(1);
-        Account account = AccountFactory.savedAccount(1L);
-        Page<Account> page = new PageImpl<>(List.of(account), pageable, 1L);
+        AccountDTO account = new AccountDTO(1L, AccountFactory.DEFAULT_REFERENCE, AccountFactory.DEFAULT_VALUE,
+                customerId, Situation.PENDENTE.name(), null, null);
 
         when(customerService.findById(customerId)).thenReturn(CustomerFactory.savedCustomer(customerId));
-        when(accountRepository.findByCustomer(any(Customer.class), eq(pageable))).thenReturn(page);
+        when(accountRepository.findDtoByCustomerId(customerId, pageable)).thenReturn(List.of(account));
 
-        Page<Account> result = accountService.findAccountsByCustomerId(customerId, pageable);
+        Page<AccountDTO> result = accountService.findAccountsByCustomerId(customerId, pageable,
+                new ChangeMarker(1L, LocalDateTime.now()));
 
-        verify(accountRepository, times(1)).findByCustomer(any(Customer.class), eq(pageable));
+        verify(accountRepository, times(1)).findDtoByCustomerId(customerId, pageable);
 
         assertEquals(1, result.getTotalElements());
         assertEquals(1, result.getTotalPages());
-        assertEquals(account.getReference(), result.getContent().get(0).getReference());
+        assertEquals(account.reference(), result.getContent().get(0).reference());
     }
 
     @Test
-    @DisplayName("Should update account successfully when fields are valid")
+    @DisplayName("Should update account with a single conditional statement when fields are valid")
     void updateAccount_whenFieldsAreValid_thenUpdateSuccessfully() {
         Long accountId = 1L;
-        Account existingAccount = AccountFactory.savedAccount(accountId);
-        String updatedReference = "11/2026";
+        String updatedReference = "11-2026";
+        AccountDTO updated = new AccountDTO(accountId, updatedReference, AccountFactory.DEFAULT_VALUE, 1L,
+                Situation.PENDENTE.name(), null, null);
 
-        when(accountRepository.findById(accountId)).thenReturn(java.util.Optional.of(existingAccount));
-        when(accountRepository.save(existingAccount)).thenReturn(existingAccount);
+        when(accountTransitionRepository.updateIfNotCancelled(eq(accountId), any(Account.class)))
+                .thenReturn(Optional.of(updated));
 
-        accountService.updateAccount(accountId, account -> account.setReference(updatedReference));
+        AccountDTO result = accountService.updateAccount(accountId, account -> account.setReference(updatedReference));
 
-        verify(accountRepository, times(1)).save(existingAccount);
+        ArgumentCaptor<Account> changes = ArgumentCaptor.forClass(Account.class);
+        verify(accountTransitionRepository, times(1)).updateIfNotCancelled(eq(accountId), changes.capture());
+        verify(accountRepository, never()).findById(any());
+        verify(accountRepository, never()).save(any(Account.class));
 
-        assertEquals(updatedReference, existingAccount.getReference());
+        assertEquals(updatedReference, changes.getValue().getReference());
+        assertNull(changes.getValue().getValue());
+        assertEquals(updatedReference, result.reference());
+        verify(outboxWriter, times(1)).append(eq(ChangeEventType.ACCOUNT_UPDATED), eq(accountId), eq(1L), any());
     }
 
     @Test
-    @DisplayName("Should throw UnauthorizedException when account is cancelled")
+    @DisplayName("Should throw UnauthorizedException when account to update is cancelled")
     void updateAccount_whenAccountIsCancelled_thenThrowUnauthorizedException() {
         Long accountId = 1L;
-        Account existingAccount = AccountFactory.savedAccount(accountId);
-        existingAccount.setSituation(Situation.CANCELADA);
 
-        when(accountRepository.findById(accountId)).thenReturn(java.util.Optional.of(existingAccount));
+        when(accountTransitionRepository.updateIfNotCancelled(eq(accountId), any(Account.class)))
+                .thenReturn(Optional.empty());
+        when(accountRepository.findSituationById(accountId)).thenReturn(Optional.of(Situation.CANCELADA));
 
         UnauthorizedException exception = assertThrows(UnauthorizedException.class, () -> {
-            accountService.updateAccount(accountId, account -> account.setReference("11/2026"));
+            accountService.updateAccount(accountId, account -> account.setReference("11-2026"));
         });
 
         assertEquals("Contas canceladas não podem ser atualizadas", exception.getMessage());
-        verify(accountRepository, never()).save(any(Account.class));
+    }
+
+    @Test
+    @DisplayName("Should throw NotFoundException when account to update does not exist")
+    void updateAccount_whenAccountDoesNotExist_thenThrowNotFoundException() {
+        Long accountId = 99L;
+
+        when(accountTransitionRepository.updateIfNotCancelled(eq(accountId), any(Account.class)))
+                .thenReturn(Optional.empty());
+        when(accountRepository.findSituationById(accountId)).thenReturn(Optional.empty());
+
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> {
+            accountService.updateAccount(accountId, account -> account.setReference("11-2026"));
+        });
+
+        assertEquals("Conta não encontrada", exception.getMessage());
     }
 
     @Test
     @DisplayName("Should throw InvalidException when updated account has negative value")
     void updateAccount_whenValueIsNegative_thenThrowInvalidException() {
         Long accountId = 1L;
-        Account existingAccount = AccountFactory.savedAccount(accountId);
 
-        when(accountRepository.findById(accountId)).thenReturn(java.util.Optional.of(existingAccount));
+        when(accountRepository.findSituationById(accountId)).thenReturn(Optional.of(Situation.PENDENTE));
 
         InvalidException exception = assertThrows(InvalidException.class, () -> {
             accountService.updateAccount(accountId, account -> account.setValue(BigDecimal.valueOf(-1)));
         });
 
         assertEquals("O valor final após a atualização não pode ser negativo", exception.getMessage());
-        verify(accountRepository, never()).save(any(Account.class));
+        verifyNoInteractions(accountTransitionRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw NotFoundException before validating a negative value of a missing account")
+    void updateAccount_whenValueIsNegativeAndAccountDoesNotExist_thenThrowNotFoundException() {
+        Long accountId = 99L;
+
+        when(accountRepository.findSituationById(accountId)).thenReturn(Optional.empty());
+
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> {
+            accountService.updateAccount(accountId, account -> account.setValue(BigDecimal.valueOf(-1)));
+        });
+
+        assertEquals("Conta não encontrada", exception.getMessage());
+        verify(accountRepository, times(1)).findSituationById(accountId);
+        verifyNoInteractions(accountTransitionRepository);
     }
 
     @Test
-    @DisplayName("Should delete account successfully when account exists")
+    @DisplayName("Should throw UnauthorizedException before validating a negative value of a cancelled account")
+    void updateAccount_whenValueIsNegativeAndAccountIsCancelled_thenThrowUnauthorizedException() {
+        Long accountId = 1L;
+
+        when(accountRepository.findSituationById(accountId)).thenReturn(Optional.of(Situation.CANCELADA));
+
+        UnauthorizedException exception = assertThrows(UnauthorizedException.class, () -> {
+            accountService.updateAccount(accountId, account -> account.setValue(BigDecimal.valueOf(-1)));
+        });
+
+        assertEquals("Contas canceladas não podem ser atualizadas", exception.getMessage());
+        verify(accountRepository, times(1)).findSituationById(accountId);
+        verifyNoInteractions(accountTransitionRepository);
+    }
+
+    @Test
+    @DisplayName("Should cancel account with a single conditional statement when account exists")
     void deleteAccount_whenAccountExists_thenDeleteSuccessfully() {
         Long accountId = 1L;
-        Account account = AccountFactory.savedAccount(accountId);
 
-        when(accountRepository.findById(accountId)).thenReturn(java.util.Optional.of(account));
+        when(accountRepository.cancelIfNotCancelled(eq(accountId), any(LocalDateTime.class))).thenReturn(1);
+        when(accountRepository.findCustomerIdById(accountId)).thenReturn(Optional.of(1L));
 
         assertDoesNotThrow(() -> accountService.deleteAccount(accountId));
 
-        verify(accountRepository, times(1)).findById(accountId);
-        verify(accountRepository, times(1)).save(account);
-        assertEquals(Situation.CANCELADA, account.getSituation());
+        verify(accountRepository, never()).findSituationById(any());
+        verify(accountRepository, never()).save(any(Account.class));
+        verify(outboxWriter, times(1)).append(ChangeEventType.ACCOUNT_CANCELLED, accountId, 1L);
+    }
+
+    @Test
+    @DisplayName("Should keep delete idempotent when account is already cancelled")
+    void deleteAccount_whenAccountIsAlreadyCancelled_thenDoNothing() {
+        Long accountId = 1L;
+
+        when(accountRepository.cancelIfNotCancelled(eq(accountId), any(LocalDateTime.class))).thenReturn(0);
+        when(accountRepository.findSituationById(accountId)).thenReturn(Optional.of(Situation.CANCELADA));
+
+        assertDoesNotThrow(() -> accountService.deleteAccount(accountId));
+        verifyNoInteractions(outboxWriter);
+    }
+
+    @Test
+    @DisplayName("Should throw NotFoundException when account to delete does not exist")
+    void deleteAccount_whenAccountDoesNotExist_thenThrowNotFoundException() {
+        Long accountId = 99L;
+
+        when(accountRepository.cancelIfNotCancelled(eq(accountId), any(LocalDateTime.class))).thenReturn(0);
+        when(accountRepository.findSituationById(accountId)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> accountService.deleteAccount(accountId));
+    }
+
+    @Test
+    @DisplayName("Should use the change marker count as total without a count query")
+    void findAccountsByCustomerId_whenPageIsFull_thenUseChangeMarkerCountAsTotal() {
+        Long customerId = 1L;
+        Pageable pageable = Pageable.ofSize(1);
+        AccountDTO account = new AccountDTO(1L, AccountFactory.DEFAULT_REFERENCE, AccountFactory.DEFAULT_VALUE,
+                customerId, Situation.PENDENTE.name(), null, null);
+
+        when(customerService.findById(customerId)).thenReturn(CustomerFactory.savedCustomer(customerId));
+        when(accountRepository.findDtoByCustomerId(customerId, pageable)).thenReturn(List.of(account));
+
+        Page<AccountDTO> result = accountService.findAccountsByCustomerId(customerId, pageable,
+                new ChangeMarker(7L, LocalDateTime.now()));
+
+        assertEquals(7, result.getTotalElements());
+        assertEquals(7, result.getTotalPages());
+    }
+
+    @Test
+    @DisplayName("Should return the accounts change marker when customer exists")
+    void findAccountsChangeMarker_whenCustomerExists_thenReturnMarker() {
+        Long customerId = 1L;
+        ChangeMarker marker = new ChangeMarker(3L, LocalDateTime.of(2025, 6, 1, 10, 0));
+
+        when(customerService.findById(customerId)).thenReturn(CustomerFactory.savedCustomer(customerId));
+        when(accountRepository.findChangeMarkerByCustomerId(customerId)).thenReturn(marker);
+
+        assertEquals(marker, accountService.findAccountsChangeMarker(customerId));
+    }
+
+    @Test
+    @DisplayName("Should summarize customer accounts by situation when customer exists")
+    void summarizeAccountsByCustomerId_whenCustomerExists_thenReturnSummaryBySituation() {
+        Long customerId = 1L;
+        List<AccountSummaryDTO> summary = List.of(
+                new AccountSummaryDTO(Situation.PAGA, 1L, BigDecimal.valueOf(250.00)),
+                new AccountSummaryDTO(Situation.PENDENTE, 2L, BigDecimal.valueOf(500.00)));
+
+        when(customerService.findById(customerId)).thenReturn(CustomerFactory.savedCustomer(customerId));
+        when(accountRepository.summarizeByCustomerId(customerId)).thenReturn(summary);
+
+        List<AccountSummaryDTO> result = accountService.summarizeAccountsByCustomerId(customerId, false);
+
+        assertEquals(summary, result);
+        verify(accountRepository, never()).summarizeByCustomerIdAndReference(any());
+    }
+
+    @Test
+    @DisplayName("Should summarize customer accounts by reference and situation when requested")
+    void summarizeAccountsByCustomerId_whenGroupByReference_thenReturnSummaryByReference() {
+        Long customerId = 1L;
+        List<AccountSummaryDTO> summary = List.of(
+                new AccountSummaryDTO("06-2025", Situation.PENDENTE, 2L, BigDecimal.valueOf(500.00)));
+
+        when(customerService.findById(customerId)).thenReturn(CustomerFactory.savedCustomer(customerId));
+        when(accountRepository.summarizeByCustomerIdAndReference(customerId)).thenReturn(summary);
+
+        List<AccountSummaryDTO> result = accountService.summarizeAccountsByCustomerId(customerId, true);
+
+        assertEquals(summary, result);
+        verify(accountRepository, never()).summarizeByCustomerId(any());
+    }
+
+    @Test
+    @DisplayName("Should throw NotFoundException when summarizing accounts of a missing customer")
+    void summarizeAccountsByCustomerId_whenCustomerDoesNotExist_thenThrowNotFoundException() {
+        Long customerId = 99L;
+
+        when(customerService.findById(customerId)).thenThrow(new NotFoundException("Cliente não encontrado"));
+
+        assertThrows(NotFoundException.class, () -> accountService.summarizeAccountsByCustomerId(customerId, false));
+
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    @DisplayName("Should summarize all accounts by situation")
+    void summarizeAccounts_whenNotGroupedByReference_thenReturnPortfolioSummary() {
+        List<AccountSummaryDTO> summary = List.of(
+                new AccountSummaryDTO(Situation.CANCELADA, 3L, BigDecimal.valueOf(120.00)));
+
+        when(accountRepository.summarizeAll()).thenReturn(summary);
+
+        assertEquals(summary, accountService.summarizeAccounts(false));
+        verify(accountRepository, never()).summarizeAllByReference();
     }
-}
\ No newline at end of file
+}
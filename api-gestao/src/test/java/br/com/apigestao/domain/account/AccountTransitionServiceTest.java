@@ -0,0 +1,128 @@
+package br.com.apigestao.domain.account;
+
+import br.com.apigestao.domain.customer.CustomerService;
+import br.com.apigestao.domain.exceptions.InvalidException;
+import br.com.apigestao.domain.exceptions.NotFoundException;
+import br.com.apigestao.infrastructure.outbox.ChangeEventType;
+import br.com.apigestao.infrastructure.outbox.OutboxWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountTransitionServiceTest {
+
+    @InjectMocks
+    private AccountTransitionService accountTransitionService;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountTransitionRepository accountTransitionRepository;
+
+    @Mock
+    private CustomerService customerService;
+
+    @Mock
+    private OutboxWriter outboxWriter;
+
+    private static Map<Long, AccountDTO> updatedAccounts(Long... ids) {
+        Map<Long, AccountDTO> accounts = new HashMap<>();
+        for (Long id : ids) {
+            accounts.put(id, new AccountDTO(id, "06-2025", null, 1L, "PAGA", null, null));
+        }
+        return accounts;
+    }
+
+    @Test
+    @DisplayName("Should report updated, cancelled and missing accounts separately")
+    void transitionAccounts_whenSomeIdsAreRejected_thenReportEachOutcome() {
+        AccountTransitionDTO transitionDTO = new AccountTransitionDTO(Set.of(3L, 1L, 2L), null, null, "paga");
+        when(accountTransitionRepository.transitionIfNotCancelled(List.of(1L, 2L, 3L), Situation.PAGA))
+                .thenReturn(updatedAccounts(1L));
+        when(accountTransitionRepository.findExistingIds(List.of(2L, 3L))).thenReturn(Set.of(2L));
+
+        List<AccountTransitionResultDTO> results = accountTransitionService.transitionAccounts(transitionDTO);
+
+        assertEquals(List.of(
+                AccountTransitionResultDTO.ofUpdated(1L),
+                new AccountTransitionResultDTO(2L, 401, "Contas canceladas não podem ser atualizadas"),
+                new AccountTransitionResultDTO(3L, 404, "Conta não encontrada")
+        ), results);
+        verify(outboxWriter).appendAll(eq(ChangeEventType.ACCOUNT_UPDATED),
+                eq(List.of(updatedAccounts(1L).get(1L))), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should skip the existence lookup when every account is updated")
+    void transitionAccounts_whenAllIdsAreUpdated_thenDoNotLookUpExistingIds() {
+        AccountTransitionDTO transitionDTO = new AccountTransitionDTO(Set.of(1L, 2L), null, null, "CANCELADA");
+        when(accountTransitionRepository.transitionIfNotCancelled(List.of(1L, 2L), Situation.CANCELADA))
+                .thenReturn(updatedAccounts(1L, 2L));
+
+        List<AccountTransitionResultDTO> results = accountTransitionService.transitionAccounts(transitionDTO);
+
+        assertEquals(2, results.size());
+        assertTrue(results.stream().allMatch(result -> result.status() == 200));
+        verify(accountTransitionRepository, never()).findExistingIds(anyList());
+    }
+
+    @Test
+    @DisplayName("Should resolve accounts by customer and reference")
+    void transitionAccounts_whenFilteringByCustomerAndReference_thenResolveIdsFromRepository() {
+        AccountTransitionDTO transitionDTO = new AccountTransitionDTO(null, 1L, "06-2025", "PAGA");
+        when(accountRepository.findIdsByCustomerIdAndBillingPeriod(1L, LocalDate.of(2025, 6, 1)))
+                .thenReturn(List.of(10L, 11L));
+        when(accountTransitionRepository.transitionIfNotCancelled(List.of(10L, 11L), Situation.PAGA))
+                .thenReturn(updatedAccounts(10L, 11L));
+
+        List<AccountTransitionResultDTO> results = accountTransitionService.transitionAccounts(transitionDTO);
+
+        assertEquals(2, results.size());
+        verify(customerService).findById(1L);
+        verify(accountRepository, never()).findIdsByCustomerId(any());
+    }
+
+    @Test
+    @DisplayName("Should throw NotFoundException when the customer does not exist")
+    void transitionAccounts_whenCustomerDoesNotExist_thenThrowNotFoundException() {
+        AccountTransitionDTO transitionDTO = new AccountTransitionDTO(null, 99L, null, "PAGA");
+        when(customerService.findById(99L)).thenThrow(new NotFoundException("Cliente não encontrado"));
+
+        assertThrows(NotFoundException.class, () -> accountTransitionService.transitionAccounts(transitionDTO));
+        verifyNoInteractions(accountTransitionRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw InvalidException when both ids and customer are informed")
+    void transitionAccounts_whenIdsAndCustomerAreInformed_thenThrowInvalidException() {
+        AccountTransitionDTO transitionDTO = new AccountTransitionDTO(Set.of(1L), 1L, null, "PAGA");
+
+        assertThrows(InvalidException.class, () -> accountTransitionService.transitionAccounts(transitionDTO));
+        verifyNoInteractions(accountTransitionRepository, customerService);
+    }
+
+    @Test
+    @DisplayName("Should throw InvalidException when no selection criteria is informed")
+    void transitionAccounts_whenNoCriteriaIsInformed_thenThrowInvalidException() {
+        AccountTransitionDTO transitionDTO = new AccountTransitionDTO(Set.of(), null, null, "PAGA");
+
+        assertThrows(InvalidException.class, () -> accountTransitionService.transitionAccounts(transitionDTO));
+        verifyNoInteractions(accountTransitionRepository);
+    }
+}
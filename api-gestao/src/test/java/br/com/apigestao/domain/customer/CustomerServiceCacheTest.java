@@ -0,0 +1,142 @@
+package br.com.apigestao.domain.customer;
+
+import br.com.apigestao.domain.customer.factories.CustomerFactory;
+import br.com.apigestao.infrastructure.config.CacheConfig;
+import br.com.apigestao.infrastructure.outbox.OutboxWriter;
+import br.com.apigestao.infrastructure.routing.PrimaryStickiness;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import java.util.Objects;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig(CustomerServiceCacheTest.Config.class)
+@TestPropertySource(properties = "api-gestao.cache.customers.spec=maximumSize=100,recordStats")
+class CustomerServiceCacheTest {
+
+    @Configuration
+    @Import({CacheConfig.class, CustomerService.class})
+    static class Config {
+
+        @Bean
+        CustomerRepository customerRepository() {
+            return mock(CustomerRepository.class);
+        }
+
+        @Bean
+        CustomerMapper customerMapper() {
+            return mock(CustomerMapper.class);
+        }
+
+        @Bean
+        OutboxWriter outboxWriter() {
+            return mock(OutboxWriter.class);
+        }
+    }
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        Objects.requireNonNull(cacheManager.getCache(CacheConfig.CUSTOMERS)).clear();
+        reset(customerRepository);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups from the cache")
+    void findById_whenCalledTwice_thenQueryRepositoryOnce() {
+        Customer customer = CustomerFactory.savedCustomer(1L);
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+
+        Customer first = customerService.findById(1L);
+        Customer second = customerService.findById(1L);
+
+        assertSame(first, second);
+        verify(customerRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Should read cache misses from the primary and restore the previous routing")
+    void findById_whenCacheMiss_thenReadFromPrimary() {
+        Customer customer = CustomerFactory.savedCustomer(1L);
+        when(customerRepository.findById(1L)).thenAnswer(invocation -> {
+            assertTrue(PrimaryStickiness.isSticky());
+            return Optional.of(customer);
+        });
+
+        customerService.findById(1L);
+
+        assertFalse(PrimaryStickiness.isSticky());
+        verify(customerRepository).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Should evict cached customer when it is disabled")
+    void disableCustomer_whenCustomerIsCached_thenEvictEntry() {
+        Customer customer = CustomerFactory.savedCustomer(1L);
+        customer.setEnabled(true);
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+
+        customerService.findById(1L);
+        customerService.findById(1L);
+        customerService.disableCustomer(1L);
+        customerService.findById(1L);
+
+        verify(customerRepository, times(3)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Should evict cached customer when it is updated")
+    void updateCustomer_whenCustomerIsCached_thenEvictEntry() {
+        Customer customer = CustomerFactory.savedCustomer(1L);
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+        when(customerRepository.save(customer)).thenReturn(customer);
+
+        customerService.findById(1L);
+        customerService.updateCustomer(1L, c -> c.setPhone("11911112222"));
+        customerService.findById(1L);
+
+        verify(customerRepository, times(3)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Should evict cached customer when it is deleted")
+    void deleteCustomer_whenCustomerIsCached_thenEvictEntry() {
+        Customer customer = CustomerFactory.savedCustomer(1L);
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+
+        customerService.findById(1L);
+        customerService.deleteCustomer(1L);
+        customerService.findById(1L);
+
+        verify(customerRepository, times(3)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Should not cache lookups of missing customers")
+    void findById_whenCustomerIsMissing_thenDoNotCache() {
+        when(customerRepository.findById(2L)).thenReturn(Optional.empty());
+
+        assertThrows(RuntimeException.class, () -> customerService.findById(2L));
+        assertThrows(RuntimeException.class, () -> customerService.findById(2L));
+
+        verify(customerRepository, times(2)).findById(2L);
+    }
+}
@@ -1,20 +1,27 @@
 package br.com.apigestao.domain.customer;
 
+import br.com.apigestao.core.ChangeMarker;
 import br.com.apigestao.domain.customer.factories.CustomerFactory;
 import br.com.apigestao.domain.exceptions.ConflictException;
 import br.com.apigestao.domain.exceptions.InvalidException;
 import br.com.apigestao.domain.exceptions.NotFoundException;
+import br.com.apigestao.infrastructure.outbox.ChangeEventType;
+import br.com.apigestao.infrastructure.outbox.OutboxWriter;
 import jakarta.validation.Validator;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -34,21 +41,27 @@ class CustomerServiceTest {
     @Mock
     private Validator validator;
 
+    @Mock
+    private CustomerMapper customerMapper;
+
+    @Mock
+    private OutboxWriter outboxWriter;
+
     @Test
     @DisplayName("Should create customer successfully when customer is valid")
     void createCustomer_whenCustomerIsValid_thenCreateSuccessfully() {
         Customer customer = CustomerFactory.validCustomer();
         Customer savedCustomer = CustomerFactory.savedCustomer();
 
-        when(customerRepository.save(customer)).thenReturn(savedCustomer);
-        when(customerRepository.existsByCpf(customer.getCpf())).thenReturn(false);
-        when(customerRepository.existsByEmail(customer.getEmail())).thenReturn(false);
+        when(customerRepository.saveAndFlush(customer)).thenReturn(savedCustomer);
 
         Customer createdCustomer = customerService.createCustomer(customer);
 
-        verify(customerRepository, times(1)).existsByCpf(customer.getCpf());
-        verify(customerRepository, times(1)).existsByEmail(customer.getEmail());
-        verify(customerRepository, times(1)).save(any(Customer.class));
+        verify(customerRepository, never()).existsByCpf(any());
+        verify(customerRepository, never()).existsByEmail(any());
+        verify(customerRepository, times(1)).saveAndFlush(any(Customer.class));
+        verify(outboxWriter, times(1)).append(eq(ChangeEventType.CUSTOMER_CREATED), eq(savedCustomer.getId()),
+                eq(savedCustomer.getId()), any());
 
         assertNotNull(createdCustomer.getId());
         assertEquals(customer.getName(), createdCustomer.getName());
@@ -58,19 +71,55 @@ class CustomerServiceTest {
     }
 
     @Test
-    @DisplayName("Should throw ConflictException when CPF already exists")
+    @DisplayName("Should throw ConflictException when CPF unique constraint is violated")
     void createCustomer_whenCpfAlreadyExists_thenThrowConflictException() {
-        Customer customer = CustomerFactory.savedCustomer();
+        Customer customer = CustomerFactory.validCustomer();
 
-        when(customerRepository.existsByCpf(customer.getCpf())).thenReturn(true);
+        when(customerRepository.saveAndFlush(customer))
+                .thenThrow(uniqueViolation(Customer.CPF_UNIQUE_CONSTRAINT));
 
         ConflictException exception = assertThrows(ConflictException.class,
                 () -> customerService.createCustomer(customer));
 
-        verify(customerRepository, times(1)).existsByCpf(customer.getCpf());
-        verify(customerRepository, never()).save(any(Customer.class));
+        verify(customerRepository, times(1)).saveAndFlush(customer);
+        verify(customerRepository, never()).existsByCpf(any());
+        verifyNoInteractions(outboxWriter);
+
+        assertEquals("O CPF do cliente já existe", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should throw ConflictException when email unique constraint is violated")
+    void createCustomer_whenEmailAlreadyExists_thenThrowConflictException() {
+        Customer customer = CustomerFactory.validCustomer();
+
+        when(customerRepository.saveAndFlush(customer))
+                .thenThrow(uniqueViolation(Customer.EMAIL_UNIQUE_CONSTRAINT.toUpperCase()));
+
+        ConflictException exception = assertThrows(ConflictException.class,
+                () -> customerService.createCustomer(customer));
+
+        assertEquals("O email do cliente já existe", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should rethrow integrity violations that are not customer uniqueness conflicts")
+    void createCustomer_whenOtherConstraintIsViolated_thenRethrow() {
+        Customer customer = CustomerFactory.validCustomer();
+        DataIntegrityViolationException violation = uniqueViolation("ck_other");
+
+        when(customerRepository.saveAndFlush(customer)).thenThrow(violation);
+
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                () -> customerService.createCustomer(customer));
+
+        assertSame(violation, exception);
+    }
 
-        assertEquals("Customer cpf already exists", exception.getMessage());
+    private static DataIntegrityViolationException uniqueViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("duplicate key value violates unique constraint",
+                        new SQLException("duplicate key", "23505"), constraintName));
     }
 
     @Test
@@ -108,12 +157,8 @@ class CustomerServiceTest {
     @DisplayName("Should return a page of customers when filters are provided")
     void searchCustomer_whenFiltersProvided_thenReturnPageOfCustomers() {
         String name = "João Silva";
-        Customer customer = new Customer();
-        customer.setId(1L);
-        customer.setName("João Silva");
-        customer.setCpf("21225491061");
-        customer.setEmail("joao@example.com");
-        customer.setPhone("11999999999");
+        CustomerDTO customer = new CustomerDTO(1L, "João Silva", "21225491061", "11999999999",
+                "joao@example.com", true, null, null);
 
         Map<String, String> filters = Map.of("name", name);
 
@@ -125,17 +170,18 @@ class CustomerServiceTest {
         };
 
         Pageable pageable = Pageable.ofSize(1);
-        Page<Customer> page = new PageImpl<>(List.of(customer), pageable, 1L);
+        Page<CustomerDTO> page = new PageImpl<>(List.of(customer), pageable, 1L);
+        ChangeMarker changeMarker = new ChangeMarker(1L, LocalDateTime.now());
 
-        when(customerRepository.findAll(specification, pageable)).thenReturn(page);
+        when(customerRepository.findAllAsDto(eq(specification), eq(pageable), any())).thenReturn(page);
 
-        Page<Customer> customerPage = customerService.searchCustomer(specification, pageable);
+        Page<CustomerDTO> customerPage = customerService.searchCustomer(specification, pageable, changeMarker);
 
-        verify(customerRepository, times(1)).findAll(eq(specification), eq(pageable));
+        verify(customerRepository, times(1)).findAllAsDto(eq(specification), eq(pageable), any());
 
         assertEquals(1, customerPage.getTotalElements());
         assertEquals(1, customerPage.getTotalPages());
-        assertEquals("João Silva", customerPage.getContent().get(0).getName());
+        assertEquals("João Silva", customerPage.getContent().get(0).name());
     }
 
     @Test
@@ -192,6 +238,7 @@ class CustomerServiceTest {
 
         verify(customerRepository, times(1)).findById(customer.getId());
         verify(customerRepository, times(1)).delete(customer);
+        verify(outboxWriter, times(1)).append(ChangeEventType.CUSTOMER_DELETED, customer.getId(), customer.getId());
     }
 
     @Test
@@ -0,0 +1,31 @@
+package br.com.apigestao.domain.customer;
+
+import br.com.apigestao.domain.exceptions.InvalidException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerSpecificationsTest {
+
+    @Test
+    @DisplayName("Should strip accents, case and surrounding spaces from the searched name")
+    void normalize_whenNameHasAccentsAndUppercase_thenReturnPlainLowercase() {
+        assertEquals("joao conceicao", CustomerSpecifications.normalize("  João Conceição "));
+    }
+
+    @Test
+    @DisplayName("Should escape LIKE wildcards typed by the user")
+    void escapeLike_whenTermHasWildcards_thenEscapeThem() {
+        assertEquals("50\\%\\_a\\\\b", CustomerSpecifications.escapeLike("50%_a\\b"));
+    }
+
+    @Test
+    @DisplayName("Should throw InvalidException when the name is shorter than the minimum length")
+    void nameMatches_whenNameIsTooShort_thenThrowInvalidException() {
+        InvalidException exception = assertThrows(InvalidException.class,
+                () -> CustomerSpecifications.nameMatches(" Jô "));
+
+        assertEquals("O nome deve ter pelo menos 3 caracteres", exception.getMessage());
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.apigestao.infrastructure.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private static AdaptiveConcurrencyLimiter limiter(int initial, int min, int max, int queueSize, Duration maxWait) {
+        return new AdaptiveConcurrencyLimiter("test",
+                new AdmissionProperties.Group(initial, min, max, queueSize, maxWait, Duration.ofSeconds(1), 2.0));
+    }
+
+    @Test
+    @DisplayName("Should reject immediately when the limit is reached and the queue is disabled")
+    void tryAcquire_whenLimitReachedWithoutQueue_thenReject() {
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 1, 2, 0, Duration.ZERO);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Should reject a queued request when the wait time runs out")
+    void tryAcquire_whenQueuedBeyondMaxWait_thenReject() {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1, 1, 1, Duration.ofMillis(20));
+        assertTrue(limiter.tryAcquire());
+
+        long start = System.nanoTime();
+        assertFalse(limiter.tryAcquire());
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    @DisplayName("Should admit a queued request as soon as a permit is released")
+    void tryAcquire_whenPermitReleasedWhileQueued_thenAdmit() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1, 1, 1, Duration.ofSeconds(5));
+        assertTrue(limiter.tryAcquire());
+
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(limiter::tryAcquire);
+        Thread.sleep(50);
+        limiter.release(FAST);
+
+        assertTrue(queued.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should lower the limit when latency rises well above the baseline, but not below the minimum")
+    void release_whenLatencyDegrades_thenDecreaseLimitDownToMinimum() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20, 4, 40, 0, Duration.ZERO);
+        cycle(limiter, 20, FAST);
+        int before = limiter.getLimit();
+
+        for (int i = 0; i < 50; i++) {
+            cycle(limiter, limiter.getLimit(), SLOW);
+        }
+
+        assertTrue(limiter.getLimit() < before / 2);
+        assertTrue(limiter.getLimit() >= 4);
+    }
+
+    @Test
+    @DisplayName("Should raise the limit while latency stays stable and permits are in use")
+    void release_whenLatencyIsStableUnderLoad_thenIncreaseLimitUpToMaximum() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 4, 40, 0, Duration.ZERO);
+
+        for (int i = 0; i < 50; i++) {
+            cycle(limiter, limiter.getLimit(), FAST);
+        }
+
+        assertEquals(40, limiter.getLimit());
+    }
+
+    private static void cycle(AdaptiveConcurrencyLimiter limiter, int permits, long latencyNanos) {
+        int acquired = 0;
+        while (acquired < permits && limiter.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(latencyNanos);
+        }
+    }
+}
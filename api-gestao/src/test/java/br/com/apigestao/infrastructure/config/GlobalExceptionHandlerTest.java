@@ -0,0 +1,53 @@
+package br.com.apigestao.infrastructure.config;
+
+import br.com.apigestao.domain.exceptions.ConflictException;
+import br.com.apigestao.domain.exceptions.NotFoundException;
+import br.com.apigestao.domain.exceptions.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GlobalExceptionHandlerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(meterRegistry);
+
+    @Test
+    @DisplayName("Should count handled exceptions by subtype and status")
+    void handleBaseException_whenHandled_thenIncrementCounterPerSubtype() {
+        handler.handleBaseException(new NotFoundException("Cliente não encontrado"));
+        handler.handleBaseException(new NotFoundException("Conta não encontrada"));
+        handler.handleBaseException(new ConflictException("O CPF do cliente já existe."));
+
+        assertEquals(2.0, meterRegistry.get(GlobalExceptionHandler.EXCEPTIONS_METRIC)
+                .tags("exception", "NotFoundException", "status", "404").counter().count());
+        assertEquals(1.0, meterRegistry.get(GlobalExceptionHandler.EXCEPTIONS_METRIC)
+                .tags("exception", "ConflictException", "status", "409").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should keep mapping the exception status to the response")
+    void handleBaseException_whenHandled_thenReturnExceptionStatus() {
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response = handler.handleBaseException(new NotFoundException("Cliente não encontrado"));
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals("Cliente não encontrado", response.getBody().getMessage());
+    }
+
+    @Test
+    @DisplayName("Should answer overload with 503 and Retry-After")
+    void handleServiceUnavailableException_whenHandled_thenReturnRetryAfter() {
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response = handler.handleServiceUnavailableException(
+                new ServiceUnavailableException("Serviço sobrecarregado. Tente novamente em instantes", 3));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("3", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(1.0, meterRegistry.get(GlobalExceptionHandler.EXCEPTIONS_METRIC)
+                .tags("exception", "ServiceUnavailableException", "status", "503").counter().count());
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.apigestao.infrastructure.config;
+
+import br.com.apigestao.domain.account.Account;
+import br.com.apigestao.domain.account.AccountDTO;
+import br.com.apigestao.domain.customer.CustomerDTO;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NativeHintsConfigTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    NativeHintsConfigTest() {
+        new NativeHintsConfig.ApiGestaoRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Should register reflection hints for entities and JSON records")
+    void registerHints_shouldCoverEntitiesAndRecords() {
+        assertTrue(RuntimeHintsPredicates.reflection().onType(Account.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(AccountDTO.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(CustomerDTO.class).test(hints));
+    }
+
+    @Test
+    @DisplayName("Should register the datasource-proxy JDK proxies and the Log4j2 YAML configuration")
+    void registerHints_shouldCoverProxiesAndLoggingConfiguration() {
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(ProxyJdbcObject.class, Connection.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("log4j2-spring.yml").test(hints));
+    }
+}
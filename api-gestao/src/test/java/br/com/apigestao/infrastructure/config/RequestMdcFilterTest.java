@@ -0,0 +1,48 @@
+package br.com.apigestao.infrastructure.config;
+
+import br.com.apigestao.infrastructure.sql.SqlStatisticsRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestMdcFilterTest {
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/clientes");
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    @DisplayName("Should mark every request as sampled when the sample rate is 1")
+    void doFilter_whenSampleRateIsOne_thenMarkRequestAsSampled() throws Exception {
+        assertEquals("true", sampledFlagDuringRequest(1.0));
+    }
+
+    @Test
+    @DisplayName("Should mark requests as not sampled when the sample rate is 0")
+    void doFilter_whenSampleRateIsZero_thenMarkRequestAsNotSampled() throws Exception {
+        assertEquals("false", sampledFlagDuringRequest(0.0));
+    }
+
+    @Test
+    @DisplayName("Should clear the request MDC keys after the request completes")
+    void doFilter_whenRequestCompletes_thenClearMdc() throws Exception {
+        sampledFlagDuringRequest(0.0);
+
+        assertNull(MDC.get("requestId"));
+        assertNull(MDC.get(RequestMdcFilter.SAMPLED_KEY));
+        assertNotNull(response.getHeader("X-Request-ID"));
+    }
+
+    private String sampledFlagDuringRequest(double sampleRate) throws Exception {
+        RequestMdcFilter filter = new RequestMdcFilter(new SqlStatisticsRegistry(false), sampleRate, 1000);
+        AtomicReference<String> sampled = new AtomicReference<>();
+
+        filter.doFilter(request, response, (req, res) -> sampled.set(MDC.get(RequestMdcFilter.SAMPLED_KEY)));
+
+        return sampled.get();
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.apigestao.infrastructure.idempotency;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyFilterTest {
+
+    @Test
+    @DisplayName("Should notify a read listener immediately with the cached body")
+    void setReadListener_whenBodyIsCached_thenNotifyImmediately() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/clientes");
+        request.setContent("{\"name\":\"Maria\"}".getBytes(StandardCharsets.UTF_8));
+        ServletInputStream input = new IdempotencyFilter.CachedBodyRequest(request).getInputStream();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        AtomicBoolean allDataRead = new AtomicBoolean();
+
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                while (input.isReady() && !input.isFinished()) {
+                    read.write(input.read());
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                allDataRead.set(true);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                fail(t);
+            }
+        });
+
+        assertEquals("{\"name\":\"Maria\"}", read.toString(StandardCharsets.UTF_8));
+        assertTrue(allDataRead.get());
+    }
+}
@@ -0,0 +1,110 @@
+package br.com.apigestao.infrastructure.idempotency;
+
+import br.com.apigestao.domain.exceptions.InvalidException;
+import br.com.apigestao.domain.exceptions.UnprocessableEntityException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyInterceptorTest {
+
+    private final IdempotencyStore store = new InMemoryIdempotencyStore(100, Duration.ofHours(1));
+    private final IdempotencyInterceptor interceptor = new IdempotencyInterceptor(store, Duration.ofMillis(50));
+    private final IdempotencyFilter filter = new IdempotencyFilter();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    @DisplayName("Should replay the stored response without running the handler again")
+    void preHandle_whenKeyIsRepeated_thenReplayStoredResponse() throws Exception {
+        MockHttpServletResponse first = post("key-1", "{\"name\":\"Maria\"}");
+        MockHttpServletResponse second = post("key-1", "{\"name\":\"Maria\"}");
+
+        assertEquals(1, executions.get());
+        assertEquals(HttpStatus.CREATED.value(), second.getStatus());
+        assertEquals(first.getHeader("Location"), second.getHeader("Location"));
+        assertEquals(first.getContentAsString(), second.getContentAsString());
+        assertEquals("true", second.getHeader(IdempotencyInterceptor.REPLAYED_HEADER));
+        assertNull(first.getHeader(IdempotencyInterceptor.REPLAYED_HEADER));
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused with a different request body")
+    void preHandle_whenBodyDiffers_thenThrowUnprocessableEntity() throws Exception {
+        post("key-1", "{\"name\":\"Maria\"}");
+
+        UnprocessableEntityException ex = assertThrows(UnprocessableEntityException.class, () -> post("key-1", "{\"name\":\"Ana\"}"));
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, ex.getHttpStatus());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("Should release the key when the handler fails so the request can be retried")
+    void afterCompletion_whenServerError_thenReleaseKey() throws Exception {
+        post("key-1", "{}", HttpStatus.INTERNAL_SERVER_ERROR);
+        MockHttpServletResponse retry = post("key-1", "{}");
+
+        assertEquals(2, executions.get());
+        assertEquals(HttpStatus.CREATED.value(), retry.getStatus());
+    }
+
+    @Test
+    @DisplayName("Should reject keys longer than the allowed size")
+    void preHandle_whenKeyIsTooLong_thenThrowInvalidException() {
+        String key = "k".repeat(IdempotencyInterceptor.MAX_KEY_LENGTH + 1);
+
+        assertThrows(InvalidException.class, () -> post(key, "{}"));
+        assertEquals(0, executions.get());
+    }
+
+    private MockHttpServletResponse post(String key, String body) throws Exception {
+        return post(key, body, HttpStatus.CREATED);
+    }
+
+    private MockHttpServletResponse post(String key, String body, HttpStatus status) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/clientes");
+        request.addHeader(IdempotencyFilter.HEADER, key);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HandlerMethod handler = new HandlerMethod(new Handler(), Handler.class.getMethod("create"));
+
+        filter.doFilter(request, response, (req, res) -> dispatch(req, res, handler, status));
+        return response;
+    }
+
+    private void dispatch(ServletRequest req, ServletResponse res, HandlerMethod handler, HttpStatus status)
+            throws IOException {
+        HttpServletRequest request = (HttpServletRequest) req;
+        HttpServletResponse response = (HttpServletResponse) res;
+        if (!interceptor.preHandle(request, response, handler)) {
+            return;
+        }
+        executions.incrementAndGet();
+        response.setStatus(status.value());
+        response.setHeader("Location", "/api/v1/clientes/" + executions.get());
+        response.setContentType("application/json");
+        response.getOutputStream().write(request.getInputStream().readAllBytes());
+        interceptor.afterCompletion(request, response, handler, null);
+    }
+
+    static class Handler {
+
+        @Idempotent
+        public void create() {
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.apigestao.infrastructure.idempotency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryIdempotencyStoreTest {
+
+    private final InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(100, Duration.ofHours(1));
+    private final IdempotentResponse response = new IdempotentResponse("abc", 201, null, "/api/v1/clientes/1", new byte[0]);
+
+    @Test
+    @DisplayName("Should return the first response to later requests with the same key")
+    void claim_whenKeyIsCompleted_thenReturnStoredResponse() {
+        assertEquals(IdempotencyStore.State.OWNER, store.claim("key", "abc", Duration.ZERO).state());
+        store.complete("key", response);
+
+        IdempotencyStore.Claim claim = store.claim("key", "abc", Duration.ZERO);
+
+        assertEquals(IdempotencyStore.State.COMPLETED, claim.state());
+        assertSame(response, claim.response());
+    }
+
+    @Test
+    @DisplayName("Should report the key as in progress when the owner does not finish in time")
+    void claim_whenOwnerIsRunning_thenReturnInProgressAfterTimeout() {
+        store.claim("key", "abc", Duration.ZERO);
+
+        assertEquals(IdempotencyStore.State.IN_PROGRESS, store.claim("key", "abc", Duration.ofMillis(20)).state());
+    }
+
+    @Test
+    @DisplayName("Should make concurrent duplicates wait for the owner's response")
+    void claim_whenOwnerCompletesWhileWaiting_thenReturnOwnerResponse() throws Exception {
+        store.claim("key", "abc", Duration.ZERO);
+        CompletableFuture<IdempotencyStore.Claim> waiter =
+                CompletableFuture.supplyAsync(() -> store.claim("key", "abc", Duration.ofSeconds(5)));
+
+        store.complete("key", response);
+
+        IdempotencyStore.Claim claim = waiter.get(5, TimeUnit.SECONDS);
+        assertEquals(IdempotencyStore.State.COMPLETED, claim.state());
+        assertSame(response, claim.response());
+    }
+
+    @Test
+    @DisplayName("Should hand the key to a waiting duplicate when the owner releases it")
+    void claim_whenOwnerReleases_thenWaiterBecomesOwner() throws Exception {
+        store.claim("key", "abc", Duration.ZERO);
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<IdempotencyStore.Claim> waiter = CompletableFuture.supplyAsync(() -> {
+            started.countDown();
+            return store.claim("key", "abc", Duration.ofSeconds(5));
+        });
+        started.await();
+        Thread.sleep(50);
+
+        store.release("key");
+
+        assertEquals(IdempotencyStore.State.OWNER, waiter.get(5, TimeUnit.SECONDS).state());
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.apigestao.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalFileOutboxSinkTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should append one JSON line per event across batches, in order")
+    void publish_whenCalledTwice_thenAppendEventsInOrder() throws Exception {
+        Path file = directory.resolve("eventos/eventos.jsonl");
+        LocalFileOutboxSink sink = new LocalFileOutboxSink(file, objectMapper);
+
+        sink.publish(List.of(event(1, "{\"id\": 7, \"situation\": \"PAGA\"}"), event(2, null)));
+        sink.publish(List.of(event(3, "{}")));
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(3, lines.size());
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertEquals(1, first.get("id").asLong());
+        assertEquals("ACCOUNT_UPDATED", first.get("type").asText());
+        assertEquals("PAGA", first.get("payload").get("situation").asText());
+        assertTrue(objectMapper.readTree(lines.get(1)).get("payload").isNull());
+        assertEquals(3, objectMapper.readTree(lines.get(2)).get("id").asLong());
+    }
+
+    private static OutboxEvent event(long id, String payload) {
+        return new OutboxEvent(id, ChangeEventType.ACCOUNT_UPDATED, 7L, 1L, payload,
+                LocalDateTime.of(2025, 6, 1, 12, 0));
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.apigestao.infrastructure.outbox;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutboxRelayTest {
+
+    private final OutboxRelay relay = new OutboxRelay(null, null, new InMemoryOutboxSink(10), 100, 1,
+            Duration.ofMinutes(1), Duration.ofDays(7));
+    private final OutboxRelay.Snapshot snapshot = new OutboxRelay.Snapshot(100, 105);
+
+    @Test
+    @DisplayName("Should publish every event when ids follow the offset without gaps")
+    void publishable_whenIdsAreContiguous_thenReturnAll() {
+        List<OutboxEvent> candidates = events(11, 12, 13);
+
+        assertEquals(candidates, relay.publishable(10, candidates, snapshot));
+    }
+
+    @Test
+    @DisplayName("Should stop before a missing id that may still be committed")
+    void publishable_whenIdIsMissing_thenStopBeforeGap() {
+        List<OutboxEvent> publishable = relay.publishable(10, events(11, 13, 14), snapshot);
+
+        assertEquals(List.of(11L), ids(publishable));
+    }
+
+    @Test
+    @DisplayName("Should wait for the first missing id right after the offset")
+    void publishable_whenFirstIdIsMissing_thenReturnNothing() {
+        assertTrue(relay.publishable(10, events(12, 13), snapshot).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should skip a missing id once every transaction that could own it has finished")
+    void publishable_whenTransactionsRunningAtGapHaveFinished_thenSkipIt() {
+        relay.publishable(10, events(12, 13), snapshot);
+        relay.publishable(10, events(12, 13), new OutboxRelay.Snapshot(101, 106));
+
+        List<OutboxEvent> publishable = relay.publishable(10, events(12, 13), new OutboxRelay.Snapshot(106, 108));
+
+        assertEquals(List.of(12L, 13L), ids(publishable));
+    }
+
+    @Test
+    @DisplayName("Should skip a missing id right away when no transaction was running after it was seen")
+    void publishable_whenNoTransactionIsRunning_thenSkipIt() {
+        relay.publishable(10, events(12), snapshot);
+
+        List<OutboxEvent> publishable = relay.publishable(10, events(12), new OutboxRelay.Snapshot(106, 106));
+
+        assertEquals(List.of(12L), ids(publishable));
+    }
+
+    @Test
+    @DisplayName("Should keep waiting while a transaction older than the gap is still running")
+    void publishable_whenOlderTransactionIsRunning_thenKeepWaiting() {
+        relay.publishable(10, events(12), snapshot);
+        relay.publishable(10, events(12), new OutboxRelay.Snapshot(101, 106));
+
+        assertTrue(relay.publishable(10, events(12), new OutboxRelay.Snapshot(103, 140)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should publish a lower id that commits long after higher ids, as in a bulk write")
+    void publishable_whenLowerIdCommitsLate_thenPublishIt() {
+        relay.publishable(10, events(12, 13), snapshot);
+        for (long xmax = 106; xmax < 200; xmax++) {
+            assertTrue(relay.publishable(10, events(12, 13), new OutboxRelay.Snapshot(101, xmax)).isEmpty());
+        }
+
+        List<OutboxEvent> publishable = relay.publishable(10, events(11, 12, 13), new OutboxRelay.Snapshot(150, 200));
+
+        assertEquals(List.of(11L, 12L, 13L), ids(publishable));
+    }
+
+    private static List<OutboxEvent> events(long... ids) {
+        return Arrays.stream(ids)
+                .mapToObj(id -> new OutboxEvent(id, ChangeEventType.ACCOUNT_UPDATED, id, 1L, "{}", LocalDateTime.now()))
+                .toList();
+    }
+
+    private static List<Long> ids(List<OutboxEvent> events) {
+        return events.stream().map(OutboxEvent::id).toList();
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.apigestao.infrastructure.routing;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5));
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    @DisplayName("Should keep write requests on the primary and issue the sticky cookie")
+    void doFilter_whenRequestIsWrite_thenStickAndSetCookie() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/v1/contas/1");
+
+        assertTrue(stickyDuringRequest(request));
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertNotNull(cookie);
+        assertTrue(Long.parseLong(cookie.getValue()) > System.currentTimeMillis());
+        assertFalse(PrimaryStickiness.isSticky());
+    }
+
+    @Test
+    @DisplayName("Should keep reads on the primary while the sticky cookie is valid")
+    void doFilter_whenCookieIsValid_thenStick() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/clientes");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME,
+                String.valueOf(System.currentTimeMillis() + 5000)));
+
+        assertTrue(stickyDuringRequest(request));
+        assertNull(response.getCookie(ReadYourWritesFilter.COOKIE_NAME));
+    }
+
+    @Test
+    @DisplayName("Should allow replica reads when the sticky cookie has expired")
+    void doFilter_whenCookieIsExpired_thenDoNotStick() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/clientes");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME,
+                String.valueOf(System.currentTimeMillis() - 1)));
+
+        assertFalse(stickyDuringRequest(request));
+    }
+
+    private boolean stickyDuringRequest(MockHttpServletRequest request) throws Exception {
+        AtomicBoolean sticky = new AtomicBoolean();
+        filter.doFilter(request, response, (req, res) -> sticky.set(PrimaryStickiness.isSticky()));
+        return sticky.get();
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.apigestao.infrastructure.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final Replica first = new Replica("replica-1", mock(HikariDataSource.class));
+    private final Replica second = new Replica("replica-2", mock(HikariDataSource.class));
+    private final ReplicaSet replicaSet = spy(new ReplicaSet(mock(HikariDataSource.class), List.of(first, second),
+            Duration.ofSeconds(2), Duration.ofSeconds(1)));
+    private final ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(replicaSet);
+
+    @AfterEach
+    void clearContext() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        PrimaryStickiness.clear();
+    }
+
+    @Test
+    @DisplayName("Should route read-write transactions to the primary")
+    void determineCurrentLookupKey_whenTransactionIsReadWrite_thenRouteToPrimary() {
+        first.update(true, 0);
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("Should spread read-only transactions across available replicas only")
+    void determineCurrentLookupKey_whenTransactionIsReadOnly_thenRouteToAvailableReplicas() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        first.update(true, 0);
+        second.update(false, 5000);
+
+        assertEquals("replica-1", routingDataSource.determineCurrentLookupKey());
+        assertEquals("replica-1", routingDataSource.determineCurrentLookupKey());
+
+        second.update(true, 0);
+        assertNotEquals(routingDataSource.determineCurrentLookupKey(), routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when no replica is available")
+    void determineCurrentLookupKey_whenNoReplicaIsAvailable_thenRouteToPrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("Should keep read-only transactions on the primary when the request is sticky")
+    void determineCurrentLookupKey_whenRequestIsSticky_thenRouteToPrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        first.update(true, 0);
+        PrimaryStickiness.stick();
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routingDataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("Should mark a replica unavailable when its lag exceeds the maximum")
+    void check_whenLagExceedsMaximum_thenMarkReplicaUnavailable() throws Exception {
+        first.update(true, 0);
+        doReturn(2500L).when(replicaSet).measureLag(first);
+
+        replicaSet.check(first);
+
+        assertFalse(first.isAvailable());
+        assertEquals(2500L, first.getLagMillis());
+    }
+
+    @Test
+    @DisplayName("Should mark a replica unavailable when the lag check fails and available again when it recovers")
+    void check_whenLagCheckFailsThenRecovers_thenToggleAvailability() throws Exception {
+        doThrow(new IllegalStateException("connection refused")).when(replicaSet).measureLag(first);
+        replicaSet.check(first);
+        assertFalse(first.isAvailable());
+
+        doReturn(100L).when(replicaSet).measureLag(first);
+        replicaSet.check(first);
+        assertTrue(first.isAvailable());
+    }
+}
@@ -0,0 +1,96 @@
+package br.com.apigestao.infrastructure.sql;
+
+import br.com.apigestao.domain.exceptions.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatisticsResponseAdviceTest {
+
+    private static final String REQUEST_ID = "req-1";
+
+    private final SqlStatisticsRegistry registry = new SqlStatisticsRegistry(true);
+    private final MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+    @BeforeEach
+    void setUp() {
+        MDC.put("requestId", REQUEST_ID);
+        registry.begin(REQUEST_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.end(REQUEST_ID);
+        MDC.remove("requestId");
+    }
+
+    @SqlStatementBudget(2)
+    String budgetedEndpoint() {
+        return "ok";
+    }
+
+    @Test
+    @DisplayName("Should expose statement count, rows and budget as response headers")
+    void beforeBodyWrite_whenWithinBudget_thenSetHeaders() throws Exception {
+        SqlStatistics statistics = registry.current();
+        statistics.recordStatement(3);
+        statistics.recordStatement(4);
+        statistics.recordRow();
+
+        Object body = write(new SqlStatisticsResponseAdvice(registry, true));
+
+        assertEquals("ok", body);
+        assertEquals("2", servletResponse.getHeader(SqlStatisticsResponseAdvice.STATEMENTS_HEADER));
+        assertEquals("1", servletResponse.getHeader(SqlStatisticsResponseAdvice.ROWS_HEADER));
+        assertEquals("7", servletResponse.getHeader(SqlStatisticsResponseAdvice.TIME_HEADER));
+        assertEquals("2", servletResponse.getHeader(SqlStatisticsResponseAdvice.BUDGET_HEADER));
+    }
+
+    @Test
+    @DisplayName("Should throw ServerException when the statement budget is exceeded in fail mode")
+    void beforeBodyWrite_whenBudgetExceededAndFailEnabled_thenThrowServerException() {
+        SqlStatistics statistics = registry.current();
+        statistics.recordStatement(1);
+        statistics.recordStatement(1);
+        statistics.recordStatement(1);
+
+        ServerException exception = assertThrows(ServerException.class,
+                () -> write(new SqlStatisticsResponseAdvice(registry, true)));
+
+        assertEquals("Orçamento de SQL excedido em budgetedEndpoint: 3 comandos (máximo 2)", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should only warn when the statement budget is exceeded outside fail mode")
+    void beforeBodyWrite_whenBudgetExceededAndFailDisabled_thenReturnBody() throws Exception {
+        SqlStatistics statistics = registry.current();
+        statistics.recordStatement(1);
+        statistics.recordStatement(1);
+        statistics.recordStatement(1);
+
+        assertEquals("ok", write(new SqlStatisticsResponseAdvice(registry, false)));
+        assertEquals("3", servletResponse.getHeader(SqlStatisticsResponseAdvice.STATEMENTS_HEADER));
+    }
+
+    private Object write(SqlStatisticsResponseAdvice advice) throws Exception {
+        MethodParameter returnType = new MethodParameter(
+                SqlStatisticsResponseAdviceTest.class.getDeclaredMethod("budgetedEndpoint"), -1);
+        ServletServerHttpResponse response = new ServletServerHttpResponse(servletResponse);
+        Object body = advice.beforeBodyWrite("ok", returnType, MediaType.APPLICATION_JSON,
+                MappingJackson2HttpMessageConverter.class,
+                new ServletServerHttpRequest(new MockHttpServletRequest()), response);
+        response.flush();
+        return body;
+    }
+}